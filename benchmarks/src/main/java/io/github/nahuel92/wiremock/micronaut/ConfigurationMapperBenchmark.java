@@ -0,0 +1,68 @@
+package io.github.nahuel92.wiremock.micronaut;
+
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import com.github.tomakehurst.wiremock.core.WireMockServices;
+import com.github.tomakehurst.wiremock.extension.Extension;
+import com.github.tomakehurst.wiremock.extension.ExtensionFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link WireMockConfigurationMapper#from(ConfigureWireMock)} with and without customizers and extension
+ * factories, which are instantiated reflectively for every server.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConfigurationMapperBenchmark {
+    private final ConfigureWireMock plainOptions = PlainServer.class.getAnnotation(ConfigureWireMock.class);
+    private final ConfigureWireMock customizedOptions = CustomizedServer.class.getAnnotation(ConfigureWireMock.class);
+
+    @Benchmark
+    public WireMockConfiguration plain() {
+        return WireMockConfigurationMapper.from(plainOptions);
+    }
+
+    @Benchmark
+    public WireMockConfiguration withCustomizersAndExtensionFactories() {
+        return WireMockConfigurationMapper.from(customizedOptions);
+    }
+
+    @ConfigureWireMock(name = "plain-service")
+    private static class PlainServer {
+    }
+
+    @ConfigureWireMock(
+            name = "customized-service",
+            configurationCustomizers = {NoOpCustomizer.class, NoOpCustomizer.class},
+            extensionFactories = {NoOpExtensionFactory.class, NoOpExtensionFactory.class}
+    )
+    private static class CustomizedServer {
+    }
+
+    public static class NoOpCustomizer implements WireMockConfigurationCustomizer {
+        @Override
+        public void customize(final WireMockConfiguration configuration, final ConfigureWireMock options) {
+        }
+    }
+
+    public static class NoOpExtensionFactory implements ExtensionFactory {
+        @Override
+        public List<Extension> create(final WireMockServices services) {
+            return List.of();
+        }
+    }
+}
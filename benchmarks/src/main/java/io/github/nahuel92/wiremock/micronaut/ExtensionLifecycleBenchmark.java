@@ -0,0 +1,121 @@
+package io.github.nahuel92.wiremock.micronaut;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.launcher.Launcher;
+import org.junit.platform.launcher.core.LauncherDiscoveryRequestBuilder;
+import org.junit.platform.launcher.core.LauncherFactory;
+import org.junit.platform.launcher.listeners.SummaryGeneratingListener;
+import org.junit.platform.launcher.listeners.TestExecutionSummary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+
+/**
+ * Measures the overhead added by {@link WireMockMicronautExtension} to a test class.
+ * <ul>
+ *     <li>{@code beforeAll}: runs a class with a single test through the JUnit Platform launcher, dominated by
+ *     Micronaut context startup, WireMock server start and property injection.</li>
+ *     <li>{@code beforeEach}: resets already started servers and injects them into a test instance, which is what the
+ *     extension does before every test. Servers are started once per trial, so class setup isn't measured.</li>
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class ExtensionLifecycleBenchmark {
+    private Launcher launcher;
+
+    @Setup
+    public void setUp() {
+        launcher = LauncherFactory.create();
+    }
+
+    @Benchmark
+    public TestExecutionSummary beforeAll() {
+        return execute(SingleTestClass.class);
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Object beforeEach(final StartedServers startedServers) {
+        for (final var resetter : startedServers.resetters) {
+            resetter.reset();
+        }
+        startedServers.injectionPlan.inject(
+                startedServers.testInstance, (type, serverName) -> startedServers.servers.get(serverName)
+        );
+        return startedServers.testInstance;
+    }
+
+    private TestExecutionSummary execute(final Class<?> testClass) {
+        final var listener = new SummaryGeneratingListener();
+        launcher.execute(LauncherDiscoveryRequestBuilder.request().selectors(selectClass(testClass)).build(), listener);
+        final var summary = listener.getSummary();
+        if (summary.getTotalFailureCount() > 0) {
+            throw new IllegalStateException("Benchmark test class failed: " + summary.getFailures());
+        }
+        return summary;
+    }
+
+    @MicronautWireMockTest({
+            @ConfigureWireMock(name = "user-service", properties = "user-service.url", notifier = NotifierMode.OFF),
+            @ConfigureWireMock(name = "todo-service", properties = "todo-service.url", notifier = NotifierMode.OFF)
+    })
+    public static class SingleTestClass {
+        @InjectWireMock("user-service")
+        private WireMockServer userService;
+
+        @InjectWireMock("todo-service")
+        private WireMockServer todoService;
+
+        @Test
+        void test() {
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class StartedServers {
+        private final Map<String, WireMockServer> servers = new HashMap<>();
+        private final List<ServerResetter> resetters = new ArrayList<>();
+        private InjectionPlan injectionPlan;
+        private SingleTestClass testInstance;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            for (final var options : SingleTestClass.class.getAnnotation(MicronautWireMockTest.class).value()) {
+                final var server = new WireMockServer(WireMockConfigurationMapper.from(options));
+                server.start();
+                servers.put(options.name(), server);
+                resetters.add(ServerResetter.of(server, options));
+            }
+            injectionPlan = InjectionPlan.of(SingleTestClass.class);
+            testInstance = new SingleTestClass();
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            servers.values().forEach(WireMockServer::stop);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package io.github.nahuel92.wiremock.micronaut;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.context.env.MapPropertySource;
+import io.micronaut.context.env.PropertySource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares publishing the properties of many servers to a running Micronaut environment with one property source per
+ * server against a single batched property source, as {@link WireMockMicronautExtension} does. Sources are removed
+ * at the end of each invocation to keep the environment size constant.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PropertySourceBenchmark {
+    private static final String PROPERTY_SOURCE_NAME = "wireMockExtensionSource";
+
+    @Param({"1", "5", "20"})
+    public int servers;
+
+    private ApplicationContext applicationContext;
+    private List<Map<String, Object>> serverProperties;
+
+    @Setup
+    public void setUp() {
+        applicationContext = ApplicationContext.run();
+        serverProperties = new ArrayList<>();
+        for (int i = 0; i < servers; i++) {
+            serverProperties.add(Map.of(
+                    "server-" + i + ".url", "http://localhost:" + (8080 + i),
+                    "server-" + i + ".port", 8080 + i
+            ));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        applicationContext.close();
+    }
+
+    @Benchmark
+    public Object perServerPropertySources() {
+        final var environment = applicationContext.getEnvironment();
+        final var propertySources = new ArrayList<PropertySource>();
+        for (final var properties : serverProperties) {
+            final var propertySource = MapPropertySource.of(PROPERTY_SOURCE_NAME, properties);
+            environment.addPropertySource(propertySource);
+            propertySources.add(propertySource);
+        }
+        final var value = environment.getProperty("server-0.url", String.class);
+        propertySources.forEach(environment::removePropertySource);
+        return value;
+    }
+
+    @Benchmark
+    public Object batchedPropertySource() {
+        final var environment = applicationContext.getEnvironment();
+        final var properties = new HashMap<String, Object>();
+        serverProperties.forEach(properties::putAll);
+        final var propertySource = MapPropertySource.of(PROPERTY_SOURCE_NAME, properties);
+        environment.addPropertySource(propertySource);
+        final var value = environment.getProperty("server-0.url", String.class);
+        environment.removePropertySource(propertySource);
+        return value;
+    }
+}
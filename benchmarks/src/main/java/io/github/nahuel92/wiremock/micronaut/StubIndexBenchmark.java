@@ -0,0 +1,84 @@
+package io.github.nahuel92.wiremock.micronaut;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.ok;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlMatching;
+
+/**
+ * Measures the latency of a stubbed request served by a {@link WireMockServer} holding a large number of stubs, with
+ * and without {@link ConfigureWireMock#indexStubs()}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StubIndexBenchmark {
+    @Param({"100", "1000", "10000"})
+    private int mappings;
+
+    @Param({"false", "true"})
+    private boolean indexed;
+
+    private WireMockServer server;
+    private HttpClient httpClient;
+    private HttpRequest request;
+
+    @Setup
+    public void setUp() {
+        final var holder = indexed ? IndexedServer.class : NonIndexedServer.class;
+        server = new WireMockServer(WireMockConfigurationMapper.from(holder.getAnnotation(ConfigureWireMock.class)));
+        server.start();
+        for (int i = 0; i < mappings; i++) {
+            if (i % 10 == 0) {
+                server.stubFor(get(urlMatching("/resources-" + i + "/[0-9]+")).willReturn(ok()));
+                continue;
+            }
+            server.stubFor(get("/resources/" + i).willReturn(ok()));
+        }
+        httpClient = HttpClient.newHttpClient();
+        // The first stub is the oldest one, so it's the last one evaluated when stubs aren't indexed.
+        request = HttpRequest.newBuilder(URI.create(server.baseUrl() + "/resources-0/1")).build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        httpClient.close();
+        server.stop();
+    }
+
+    @Benchmark
+    public int match() throws IOException, InterruptedException {
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding()).statusCode();
+    }
+
+    @ConfigureWireMock(name = "non-indexed-service", notifier = NotifierMode.OFF)
+    private static class NonIndexedServer {
+    }
+
+    @ConfigureWireMock(name = "indexed-service", notifier = NotifierMode.OFF, indexStubs = true)
+    private static class IndexedServer {
+    }
+}
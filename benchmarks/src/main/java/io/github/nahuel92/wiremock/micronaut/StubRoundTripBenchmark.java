@@ -0,0 +1,66 @@
+package io.github.nahuel92.wiremock.micronaut;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.okJson;
+
+/**
+ * Measures the latency of a stubbed request served by a {@link WireMockServer} configured the same way the extension
+ * does it.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StubRoundTripBenchmark {
+    private WireMockServer server;
+    private HttpClient httpClient;
+    private HttpRequest request;
+
+    @Setup
+    public void setUp() {
+        final var options = BenchmarkServer.class.getAnnotation(ConfigureWireMock.class);
+        server = new WireMockServer(WireMockConfigurationMapper.from(options));
+        server.start();
+        server.stubFor(get("/users/1").willReturn(okJson("""
+                { "id": 1, "name": "Jenna" }""")));
+        httpClient = HttpClient.newHttpClient();
+        request = HttpRequest.newBuilder(URI.create(server.baseUrl() + "/users/1")).build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        httpClient.close();
+        server.stop();
+    }
+
+    @Benchmark
+    public String roundTrip() throws IOException, InterruptedException {
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString()).body();
+    }
+
+    @ConfigureWireMock(name = "round-trip-service", notifier = NotifierMode.OFF)
+    private static class BenchmarkServer {
+    }
+}
@@ -0,0 +1,65 @@
+package app;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import io.github.nahuel92.wiremock.micronaut.ConfigureWireMock;
+import io.github.nahuel92.wiremock.micronaut.InjectWireMock;
+import io.github.nahuel92.wiremock.micronaut.MicronautWireMockTest;
+import io.github.nahuel92.wiremock.micronaut.ResetPolicy;
+import io.micronaut.http.HttpHeaders;
+import io.micronaut.http.MediaType;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@MicronautWireMockTest(
+        @ConfigureWireMock(name = "user-client", properties = "user-client.url", reset = ResetPolicy.PROGRAMMATIC)
+)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class ResetPolicyTest {
+    @Inject
+    private UserClient userClient;
+
+    @InjectWireMock("user-client")
+    private WireMockServer wiremock;
+
+    @Test
+    @Order(1)
+    @DisplayName("WireMock server should use Java stub when stubbing via the Java API")
+    void successOnUsingMocksFromJavaAPIStubbing() {
+        // given
+        wiremock.stubFor(get("/2").willReturn(
+                        aResponse()
+                                .withHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON)
+                                .withBody("""
+                                        { "id": 2, "name": "Amy" }"""
+                                )
+                )
+        );
+
+        // when
+        final var result = userClient.findOne(2L);
+
+        // then
+        CommonAssertions.assertThatUserHasIdAndName(result, 2L, "Amy").close();
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("WireMock server should drop stubs added by previous tests while keeping the ones loaded from files")
+    void successOnKeepingFileStubsOnly() {
+        // given
+        final var result = userClient.findOne(1L);
+
+        // then
+        CommonAssertions.assertThatUserHasIdAndName(result, 1L, "Jenna").close();
+        assertThat(wiremock.getStubMappings()).hasSize(1);
+        assertThat(wiremock.getAllServeEvents()).hasSize(1);
+    }
+}
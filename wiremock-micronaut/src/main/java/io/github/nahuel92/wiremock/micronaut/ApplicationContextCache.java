@@ -0,0 +1,191 @@
+package io.github.nahuel92.wiremock.micronaut;
+
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.context.annotation.Bean;
+import io.micronaut.runtime.EmbeddedApplication;
+import io.micronaut.test.annotation.MockBean;
+import io.micronaut.test.condition.TestActiveCondition;
+import jakarta.inject.Scope;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.AnnotatedElement;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * JVM-wide cache of application contexts started for test classes with {@link MicronautWireMockTest#cacheContext()}
+ * enabled. Contexts in use are never evicted; idle ones are stopped, along with their WireMock servers, in least
+ * recently used order once the cache grows beyond its maximum size. The cache lives in the JUnit root context store,
+ * so remaining contexts are stopped only once the whole test run is over.
+ */
+class ApplicationContextCache implements ExtensionContext.Store.CloseableResource {
+    static final String MAX_SIZE_PARAMETER = "wiremock.micronaut.context-cache.max-size";
+    private static final int DEFAULT_MAX_SIZE = 8;
+    private static final Logger LOGGER = LoggerFactory.getLogger(ApplicationContextCache.class);
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(ApplicationContextCache.class);
+    private final Map<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private final int maxSize;
+
+    private ApplicationContextCache(final int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    static ApplicationContextCache get(final ExtensionContext extensionContext) {
+        return extensionContext.getRoot()
+                .getStore(NAMESPACE)
+                .getOrComputeIfAbsent(
+                        ApplicationContextCache.class,
+                        key -> new ApplicationContextCache(
+                                extensionContext.getConfigurationParameter(MAX_SIZE_PARAMETER, Integer::parseInt)
+                                        .orElse(DEFAULT_MAX_SIZE)
+                        ),
+                        ApplicationContextCache.class
+                );
+    }
+
+    /**
+     * Returns the key identifying the context of the given test class, or nothing if the test class declares beans
+     * of its own, as those are only active for the test class that started the context.
+     */
+    static Optional<Key> keyOf(final Class<?> testClass, final Map<String, Object> testProperties) {
+        if (declaresBeans(testClass)) {
+            LOGGER.info("Application context of '{}' won't be cached, as the test class declares beans", testClass.getName());
+            return Optional.empty();
+        }
+        final var properties = new HashMap<>(testProperties);
+        properties.remove(TestActiveCondition.ACTIVE_SPEC_CLAZZ);
+        return Optional.of(new Key(
+                List.of(testClass.getAnnotationsByType(MicronautWireMockTest.class)),
+                testClass.getPackageName(),
+                properties
+        ));
+    }
+
+    private static boolean declaresBeans(final Class<?> testClass) {
+        for (var type = testClass; type != null && type != Object.class; type = type.getSuperclass()) {
+            final var members = Stream.of(
+                    Stream.of(type.getDeclaredMethods()),
+                    Stream.of(type.getDeclaredFields()),
+                    Stream.of(type.getDeclaredClasses())
+            ).flatMap(stream -> stream.map(AnnotatedElement.class::cast));
+            if (members.anyMatch(ApplicationContextCache::isBean)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isBean(final AnnotatedElement element) {
+        return AnnotationSupport.isAnnotated(element, MockBean.class)
+                || AnnotationSupport.isAnnotated(element, Bean.class)
+                || AnnotationSupport.isAnnotated(element, Scope.class);
+    }
+
+    /**
+     * Returns the running context cached with the given key, if any, marking it as in use until it's released.
+     */
+    synchronized ApplicationContext acquire(final Key key) {
+        final var entry = entries.get(key);
+        if (entry == null || !entry.context.isRunning()) {
+            return null;
+        }
+        entry.users++;
+        LOGGER.info("Reusing cached application context for test classes annotated with '{}'", key.annotations());
+        return entry.context;
+    }
+
+    /**
+     * Caches the given context, marking it as in use until it's released.
+     */
+    synchronized void put(final Key key, final ApplicationContext context) {
+        final var entry = new Entry(context);
+        entry.users++;
+        entries.put(key, entry);
+        evictIdleEntries();
+    }
+
+    synchronized boolean contains(final ApplicationContext context) {
+        return findEntry(context).isPresent();
+    }
+
+    /**
+     * Returns a map bound to the given cached context, so it outlives the test class that created it, or
+     * {@code null} if the context isn't cached.
+     */
+    @SuppressWarnings("unchecked")  // Maps are keyed by name, and each name is always used with the same types.
+    synchronized <K, V> Map<K, V> getMap(final ApplicationContext context, final String name) {
+        return findEntry(context)
+                .map(entry -> (Map<K, V>) entry.maps.computeIfAbsent(name, key -> new ConcurrentHashMap<>()))
+                .orElse(null);
+    }
+
+    /**
+     * Marks the given context as no longer used by the test class that acquired it.
+     *
+     * @return false if the context isn't cached, so it should be stopped by the caller.
+     */
+    synchronized boolean release(final ApplicationContext context, final EmbeddedApplication<?> embeddedApplication) {
+        final var entry = findEntry(context);
+        if (entry.isEmpty()) {
+            return false;
+        }
+        entry.get().users--;
+        entry.get().embeddedApplication = embeddedApplication;
+        evictIdleEntries();
+        return true;
+    }
+
+    private Optional<Entry> findEntry(final ApplicationContext context) {
+        return entries.values().stream().filter(entry -> entry.context == context).findFirst();
+    }
+
+    private void evictIdleEntries() {
+        final var iterator = entries.entrySet().iterator();
+        while (entries.size() > maxSize && iterator.hasNext()) {
+            final var entry = iterator.next();
+            if (entry.getValue().users <= 0) {
+                LOGGER.info("Evicting cached application context for test classes annotated with '{}'",
+                        entry.getKey().annotations());
+                iterator.remove();
+                entry.getValue().stop();
+            }
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        entries.values().forEach(Entry::stop);
+        entries.clear();
+    }
+
+    record Key(List<MicronautWireMockTest> annotations, String packageName, Map<String, Object> testProperties) {
+    }
+
+    private static class Entry {
+        private final ApplicationContext context;
+        private final Map<String, Map<?, ?>> maps = new ConcurrentHashMap<>();
+        private EmbeddedApplication<?> embeddedApplication;
+        private int users;
+
+        private Entry(final ApplicationContext context) {
+            this.context = context;
+        }
+
+        private void stop() {
+            if (embeddedApplication != null && embeddedApplication.isRunning()) {
+                embeddedApplication.stop();
+            }
+            if (context.isRunning()) {
+                context.stop();  // Publishes the shutdown event that stops the WireMock servers bound to the context.
+            }
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package io.github.nahuel92.wiremock.micronaut;
+
+import com.github.tomakehurst.wiremock.common.Notifier;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link Notifier} that hands messages over to a delegate on a single background thread shared by every server,
+ * keeping the order in which messages were emitted.
+ * <p>
+ * At most {@link #QUEUE_CAPACITY} messages wait for the background thread. Once that backlog is full, messages are
+ * logged by the thread emitting them (hence, out of order), so a slow logging backend slows Jetty down instead of
+ * exhausting the heap. Pending messages are flushed when the JVM shuts down.
+ */
+class AsyncNotifier implements Notifier {
+    static final int QUEUE_CAPACITY = 10_000;
+    private static final Duration SHUTDOWN_FLUSH_TIMEOUT = Duration.ofSeconds(5);
+    private static final ThreadPoolExecutor EXECUTOR = new ThreadPoolExecutor(
+            1,
+            1,
+            0,
+            TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+            Thread.ofPlatform().name("wiremock-async-notifier").daemon().factory(),
+            new ThreadPoolExecutor.CallerRunsPolicy()
+    );
+
+    static {
+        EXECUTOR.prestartCoreThread();
+        Runtime.getRuntime().addShutdownHook(
+                Thread.ofPlatform().name("wiremock-async-notifier-flush").unstarted(
+                        () -> flush(SHUTDOWN_FLUSH_TIMEOUT)
+                )
+        );
+    }
+
+    private final Notifier delegate;
+
+    AsyncNotifier(final Notifier delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Waits until every message emitted so far is handed over to its delegate.
+     *
+     * @param timeout maximum time to wait
+     * @return true if every message was handed over before the timeout elapsed
+     */
+    static boolean flush(final Duration timeout) {
+        final var flushed = new CountDownLatch(1);
+        try {
+            // Queued directly, so a full backlog makes this wait for room instead of running on the caller.
+            if (!EXECUTOR.getQueue().offer(flushed::countDown, timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                return false;
+            }
+            return flushed.await(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @Override
+    public void info(final String message) {
+        EXECUTOR.execute(() -> delegate.info(message));
+    }
+
+    @Override
+    public void error(final String message) {
+        EXECUTOR.execute(() -> delegate.error(message));
+    }
+
+    @Override
+    public void error(final String message, final Throwable t) {
+        EXECUTOR.execute(() -> delegate.error(message, t));
+    }
+}
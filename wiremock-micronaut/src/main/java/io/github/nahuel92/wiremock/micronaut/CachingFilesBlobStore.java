@@ -0,0 +1,218 @@
+package io.github.nahuel92.wiremock.micronaut;
+
+import com.github.tomakehurst.wiremock.common.FileSource;
+import com.github.tomakehurst.wiremock.common.InputStreamSource;
+import com.github.tomakehurst.wiremock.store.BlobStore;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * {@link BlobStore} caching the response body files ({@code __files/}) served by WireMock servers configured with
+ * {@link ConfigureWireMock#cacheBodyFiles()}, so serving a body file doesn't read it again on each request. The cache is
+ * shared by every server in the JVM:
+ * <ul>
+ *     <li>Files smaller than {@value #MAPPED_FILE_THRESHOLD} bytes are kept on the heap, in an LRU cache bounded to
+ *     {@value #MAX_HEAP_BYTES} bytes.</li>
+ *     <li>Larger files on the file system are memory-mapped, so they're served from the OS page cache instead of the
+ *     heap. Larger files inside JARs can't be mapped, and are streamed by WireMock as usual.</li>
+ * </ul>
+ * Files outside the classpath are read again once they change, replacing their previous version in the cache.
+ */
+class CachingFilesBlobStore implements BlobStore {
+    static final int MAPPED_FILE_THRESHOLD = 1024 * 1024;
+    static final long MAX_HEAP_BYTES = 64L * 1024 * 1024;
+    private static final int MAX_ENTRIES = 1024;
+    private static final BodyCache CACHE = new BodyCache();
+    private final BlobStore delegate;
+    private final FileSource fileSource;
+
+    CachingFilesBlobStore(final BlobStore delegate, final FileSource fileSource) {
+        this.delegate = delegate;
+        this.fileSource = fileSource;
+    }
+
+    @Override
+    public Optional<byte[]> get(final String key) {
+        final var location = locationOf(key);
+        if (location == null) {
+            return delegate.get(key);
+        }
+        return open(key, location).map(stream -> {
+            try (stream) {
+                return stream.readAllBytes();
+            } catch (final IOException e) {
+                throw new UncheckedIOException("Failed to read body file " + location.uri(), e);
+            }
+        });
+    }
+
+    @Override
+    public Optional<InputStream> getStream(final String key) {
+        final var location = locationOf(key);
+        if (location == null) {
+            return delegate.getStream(key);
+        }
+        return open(key, location);
+    }
+
+    @Override
+    public InputStreamSource getStreamSource(final String key) {
+        return () -> getStream(key).orElse(null);
+    }
+
+    @Override
+    public Stream<String> getAllKeys() {
+        return delegate.getAllKeys();
+    }
+
+    @Override
+    public void put(final String key, final byte[] content) {
+        delegate.put(key, content);
+    }
+
+    @Override
+    public void remove(final String key) {
+        delegate.remove(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    /**
+     * @return the location of the given file, or null if it doesn't exist
+     */
+    private FileLocation locationOf(final String key) {
+        try {
+            return FileLocation.of(fileSource.getBinaryFileNamed(key).getUri());
+        } catch (final UncheckedIOException e) {
+            return null;  // Missing file, reported by WireMock as usual.
+        }
+    }
+
+    /**
+     * @return a stream over the content of the given file, served from the cache whenever possible. Each file is
+     * read at most once, even when it turns out to be too large to be kept on the heap
+     */
+    private Optional<InputStream> open(final String key, final FileLocation location) {
+        final var cached = CACHE.get(location);
+        if (cached != null) {
+            return Optional.of(new ByteBufferInputStream(cached.duplicate()));
+        }
+        if (FileLocation.isOnFileSystem(location.uri()) && location.size() >= MAPPED_FILE_THRESHOLD) {
+            return Optional.of(cache(location, map(Path.of(location.uri()))));
+        }
+        if (FileLocation.isOnFileSystem(location.uri())) {
+            return delegate.get(key).map(content -> cache(location, ByteBuffer.wrap(content).asReadOnlyBuffer()));
+        }
+        // The size of files inside JARs isn't known upfront, so only the part that fits on the heap is read first.
+        return delegate.getStream(key).map(stream -> {
+            try {
+                final var head = stream.readNBytes(MAPPED_FILE_THRESHOLD);
+                if (head.length == MAPPED_FILE_THRESHOLD) {
+                    return new SequenceInputStream(new ByteArrayInputStream(head), stream);
+                }
+                stream.close();
+                return cache(location, ByteBuffer.wrap(head).asReadOnlyBuffer());
+            } catch (final IOException e) {
+                throw new UncheckedIOException("Failed to read body file " + location.uri(), e);
+            }
+        });
+    }
+
+    private static InputStream cache(final FileLocation location, final ByteBuffer buffer) {
+        CACHE.put(location, buffer);
+        return new ByteBufferInputStream(buffer.duplicate());
+    }
+
+    private static ByteBuffer map(final Path file) {
+        try (final var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()).asReadOnlyBuffer();
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to map body file " + file, e);
+        }
+    }
+
+    /**
+     * LRU cache of body files, holding a single version of each file. Only heap buffers count towards
+     * {@link #MAX_HEAP_BYTES}, mapped buffers live outside the heap.
+     */
+    private static class BodyCache {
+        private final Map<URI, CachedBody> bodies = new LinkedHashMap<>(16, 0.75f, true);
+        private long heapBytes;
+
+        private synchronized ByteBuffer get(final FileLocation location) {
+            final var cached = bodies.get(location.uri());
+            return cached != null && cached.location().equals(location) ? cached.buffer() : null;
+        }
+
+        private synchronized void put(final FileLocation location, final ByteBuffer buffer) {
+            final var previous = bodies.put(location.uri(), new CachedBody(location, buffer));
+            heapBytes += heapBytesOf(buffer) - (previous != null ? heapBytesOf(previous.buffer()) : 0);
+            final var iterator = bodies.values().iterator();
+            while ((heapBytes > MAX_HEAP_BYTES || bodies.size() > MAX_ENTRIES) && iterator.hasNext()) {
+                heapBytes -= heapBytesOf(iterator.next().buffer());
+                iterator.remove();
+            }
+        }
+
+        private static long heapBytesOf(final ByteBuffer buffer) {
+            return buffer.isDirect() ? 0 : buffer.capacity();
+        }
+    }
+
+    private record CachedBody(FileLocation location, ByteBuffer buffer) {
+    }
+
+    private static class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(final ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(final byte[] bytes, final int offset, final int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            final var count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+
+        @Override
+        public long skip(final long count) {
+            final var skipped = (int) Math.min(Math.max(count, 0), buffer.remaining());
+            buffer.position(buffer.position() + skipped);
+            return skipped;
+        }
+    }
+}
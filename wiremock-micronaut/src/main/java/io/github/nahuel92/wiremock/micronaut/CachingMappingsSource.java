@@ -0,0 +1,181 @@
+package io.github.nahuel92.wiremock.micronaut;
+
+import com.github.tomakehurst.wiremock.common.FileSource;
+import com.github.tomakehurst.wiremock.common.Json;
+import com.github.tomakehurst.wiremock.common.JsonException;
+import com.github.tomakehurst.wiremock.common.Metadata;
+import com.github.tomakehurst.wiremock.common.NotWritableException;
+import com.github.tomakehurst.wiremock.common.TextFile;
+import com.github.tomakehurst.wiremock.common.filemaker.FilenameMaker;
+import com.github.tomakehurst.wiremock.standalone.JsonFileMappingsSource;
+import com.github.tomakehurst.wiremock.standalone.MappingFileException;
+import com.github.tomakehurst.wiremock.standalone.MappingsSource;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import com.github.tomakehurst.wiremock.stubbing.StubMappingCollection;
+import com.github.tomakehurst.wiremock.stubbing.StubMappings;
+
+import java.net.URI;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link MappingsSource} that behaves like {@link JsonFileMappingsSource}, but avoids reading and parsing the same
+ * mapping files over and over.
+ * <p>
+ * Parsed mapping files are cached process-wide, keyed by the file location, and parsed again when the last modified
+ * time or size of the file changes (for files inside a jar, the jar itself is checked). Since WireMock assigns loaded
+ * stubs a server-specific insertion index, each load hands out shallow copies of the cached {@link StubMapping}
+ * instances, sharing their (immutable) request patterns and response definitions. This way, starting another server
+ * with the same stubs, or resetting one with {@link ResetPolicy#FULL}, costs a file system check per file instead of
+ * a read and a Jackson parse.
+ * <p>
+ * Stubs keep track of the file they were loaded from, so they can be saved or removed (when persistent) just like
+ * with {@link JsonFileMappingsSource}. Writes go straight to the file source and evict the cached file.
+ */
+class CachingMappingsSource implements MappingsSource {
+    private static final Map<URI, ParsedFile> PARSED_FILES = new ConcurrentHashMap<>();
+    private final FileSource mappingsFileSource;
+    private final FilenameMaker filenameMaker;
+    private final Map<UUID, MappingFile> mappingFiles = new ConcurrentHashMap<>();
+
+    CachingMappingsSource(final FileSource mappingsFileSource, final FilenameMaker filenameMaker) {
+        this.mappingsFileSource = mappingsFileSource;
+        this.filenameMaker = filenameMaker;
+    }
+
+    @Override
+    public void save(final List<StubMapping> stubMappings) {
+        for (final var stubMapping : stubMappings) {
+            if (stubMapping != null && stubMapping.isDirty()) {
+                save(stubMapping);
+            }
+        }
+    }
+
+    @Override
+    public void save(final StubMapping stubMapping) {
+        var mappingFile = mappingFiles.get(stubMapping.getId());
+        if (mappingFile == null) {
+            final var path = filenameMaker.filenameFor(stubMapping);
+            mappingFile = new MappingFile(path, mappingsFileSource.getTextFileNamed(path).getUri(), false);
+        }
+        if (mappingFile.multi()) {
+            throw new NotWritableException(
+                    "Stubs loaded from multi-mapping files are read-only, and therefore cannot be saved"
+            );
+        }
+        mappingsFileSource.writeTextFile(mappingFile.path(), Json.write(stubMapping));
+        PARSED_FILES.remove(mappingFile.uri());
+        mappingFiles.put(stubMapping.getId(), mappingFile);
+        stubMapping.setDirty(false);
+    }
+
+    @Override
+    public void remove(final StubMapping stubMapping) {
+        final var mappingFile = mappingFiles.get(stubMapping.getId());
+        if (mappingFile == null) {
+            return;
+        }
+        if (mappingFile.multi()) {
+            throw new NotWritableException(
+                    "Stubs loaded from multi-mapping files are read-only, and therefore cannot be removed"
+            );
+        }
+        mappingsFileSource.deleteFile(mappingFile.path());
+        PARSED_FILES.remove(mappingFile.uri());
+        mappingFiles.remove(stubMapping.getId());
+    }
+
+    @Override
+    public void removeAll() {
+        if (mappingFiles.values().stream().anyMatch(MappingFile::multi)) {
+            throw new NotWritableException(
+                    "Some stubs were loaded from multi-mapping files which are read-only, so remove all cannot be "
+                            + "performed"
+            );
+        }
+        for (final var mappingFile : mappingFiles.values()) {
+            mappingsFileSource.deleteFile(mappingFile.path());
+            PARSED_FILES.remove(mappingFile.uri());
+        }
+        mappingFiles.clear();
+    }
+
+    @Override
+    public void loadMappingsInto(final StubMappings stubMappings) {
+        if (!mappingsFileSource.exists()) {
+            return;
+        }
+        final var files = mappingsFileSource.listFilesRecursively()
+                .stream()
+                .filter(file -> file.name().toLowerCase(Locale.ROOT).endsWith(".json"))
+                .toList();
+        for (final var file : files) {
+            final var parsedFile = parse(file);
+            for (final var stubMapping : parsedFile.stubMappings()) {
+                final var copy = copyOf(stubMapping);
+                stubMappings.addMapping(copy);
+                mappingFiles.put(copy.getId(), new MappingFile(file.getPath(), file.getUri(), parsedFile.multi()));
+            }
+        }
+    }
+
+    static FileLocation stampOf(final URI uri) {
+        if (!"jar".equals(uri.getScheme())) {
+            return FileLocation.of(uri);
+        }
+        final var specificPart = uri.getSchemeSpecificPart();
+        final var separator = specificPart.indexOf("!/");
+        if (separator < 0) {
+            return FileLocation.of(uri);
+        }
+        final var jar = FileLocation.of(URI.create(specificPart.substring(0, separator)));
+        return new FileLocation(uri, jar.lastModified(), jar.size());
+    }
+
+    private static ParsedFile parse(final TextFile file) {
+        final var stamp = stampOf(file.getUri());
+        return PARSED_FILES.compute(file.getUri(), (uri, cached) -> {
+            if (cached != null && cached.stamp().equals(stamp)) {
+                return cached;
+            }
+            try {
+                final var collection = Json.read(file.readContentsAsString(), StubMappingCollection.class);
+                return new ParsedFile(stamp, List.copyOf(collection.getMappingOrMappings()), collection.isMulti());
+            } catch (final JsonException e) {
+                throw new MappingFileException(file.getPath(), e.getErrorDetail());
+            }
+        });
+    }
+
+    /**
+     * Copies everything WireMock may change on a loaded stub (its insertion index and dirty flag, and its metadata
+     * when edited in place), sharing the rest with the cached instance.
+     */
+    private static StubMapping copyOf(final StubMapping stubMapping) {
+        final var copy = new StubMapping(stubMapping.getRequest(), stubMapping.getResponse());
+        copy.setId(stubMapping.getId());
+        copy.setName(stubMapping.getName());
+        copy.setPersistent(stubMapping.isPersistent());
+        copy.setPriority(stubMapping.getPriority());
+        copy.setScenarioName(stubMapping.getScenarioName());
+        copy.setRequiredScenarioState(stubMapping.getRequiredScenarioState());
+        copy.setNewScenarioState(stubMapping.getNewScenarioState());
+        copy.setPostServeActions(stubMapping.getPostServeActions());
+        copy.setServeEventListenerDefinitions(stubMapping.getServeEventListeners());
+        if (stubMapping.getMetadata() != null) {
+            copy.setMetadata(new Metadata(stubMapping.getMetadata()));
+        }
+        copy.setDirty(false);
+        return copy;
+    }
+
+    private record ParsedFile(FileLocation stamp, List<StubMapping> stubMappings, boolean multi) {
+    }
+
+    private record MappingFile(String path, URI uri, boolean multi) {
+    }
+}
@@ -66,6 +66,16 @@ public @interface ConfigureWireMock {
      */
     boolean stubLocationOnClasspath() default true;
 
+    /**
+     * Base URL of a real service (or a local stand-in) to record stubs from. When set, requests not matching any stub
+     * are proxied to it, and each proxied exchange is written to the stub directory as soon as it completes: to
+     * {@code src/test/resources/{stubLocation}} of the module whose Maven or Gradle test output the stub location is
+     * loaded from when {@link #stubLocationOnClasspath()} is enabled, or to {@link #stubLocation()} otherwise.
+     *
+     * @return the base URL to record from, or an empty string if recording is disabled
+     */
+    String recordFrom() default "";
+
     /**
      * WireMock extensions to register in {@link WireMockServer}.
      *
@@ -87,4 +97,163 @@ public @interface ConfigureWireMock {
      * @return the configuration customizers classes
      */
     Class<? extends WireMockConfigurationCustomizer>[] configurationCustomizers() default {};
+
+    /**
+     * Allows {@link WireMockServer} to be shared between test classes. Pooled servers are kept running for the whole
+     * test run and leased to every test class declaring an equal configuration (i.e., same name, port, stub
+     * location, extensions, customizers and any other attribute shaping the server). The server is reset each time
+     * it's leased, and it's stopped when the JUnit root context is closed.
+     *
+     * @return true if the {@link WireMockServer} should be taken from the JVM-wide pool
+     */
+    boolean pooled() default false;
+
+    /**
+     * Defines how the {@link WireMockServer} is reset before each test. By default, everything is reset and the stubs
+     * are reloaded from {@link #stubLocation()}.
+     *
+     * @return the reset policy
+     */
+    ResetPolicy reset() default ResetPolicy.FULL;
+
+    /**
+     * Defers the creation of {@link WireMockServer} until it's needed. The port is reserved and Micronaut properties
+     * are set upfront, but the server is started (and stubs are loaded) only when it's injected with
+     * {@link InjectWireMock} or when the port receives its first connection. Ignored for {@link #pooled()} servers.
+     *
+     * @return true if the {@link WireMockServer} should be started lazily
+     */
+    boolean lazy() default false;
+
+    /**
+     * Predefined set of Jetty settings for {@link WireMockServer}. Settings given explicitly with the other attributes
+     * of this annotation take precedence over the ones defined by the profile.
+     *
+     * @return the performance profile
+     */
+    PerformanceProfile profile() default PerformanceProfile.DEFAULT;
+
+    /**
+     * Number of threads of the Jetty container. {@code 0} means the value given by {@link #profile()} is used.
+     *
+     * @return the number of container threads
+     */
+    int containerThreads() default 0;
+
+    /**
+     * Number of Jetty acceptor threads. {@code 0} means the value given by {@link #profile()} is used.
+     *
+     * @return the number of acceptor threads
+     */
+    int jettyAcceptors() default 0;
+
+    /**
+     * Number of threads used to send responses asynchronously, so delayed responses don't hold container threads.
+     * Asynchronous responses are enabled when this value (or the one given by {@link #profile()}) is greater than
+     * {@code 0}.
+     *
+     * @return the number of asynchronous response threads
+     */
+    int asynchronousResponseThreads() default 0;
+
+    /**
+     * Whether Jetty handles requests in virtual threads. Delayed responses then hold cheap virtual threads instead of
+     * container threads, so thousands of concurrent delayed responses can be kept open.
+     *
+     * @return true if requests should be handled in virtual threads
+     */
+    boolean virtualThreads() default false;
+
+    /**
+     * Latency added to every response, e.g., {@code @Latency(distribution = LatencyDistribution.LOGNORMAL, median = 80,
+     * sigma = 0.4)}, so clients can be tested against realistic downstream latency without adding delays to every
+     * stub. Stubs declaring their own delays keep them.
+     *
+     * @return the latency added to responses
+     */
+    Latency latency() default @Latency;
+
+    /**
+     * Faults injected in a share of the responses, e.g., {@code @Faults(rate = 0.01)} resets the connection of 1% of
+     * requests, so timeouts, retries and circuit breakers can be exercised.
+     *
+     * @return the faults injected in responses
+     */
+    Faults faults() default @Faults;
+
+    /**
+     * Maximum size, in bytes, of Jetty request headers. {@code 0} means WireMock default is used.
+     * <p>
+     * Only header sizes can be tuned: WireMock doesn't expose Jetty input and output buffer sizes, so those are left
+     * to Jetty defaults unless a customizer provides its own {@code HttpServerFactory}.
+     *
+     * @return the request header size
+     */
+    int jettyHeaderRequestSize() default 0;
+
+    /**
+     * Maximum size, in bytes, of Jetty response headers. {@code 0} means WireMock default is used.
+     *
+     * @return the response header size
+     */
+    int jettyHeaderResponseSize() default 0;
+
+    /**
+     * Whether HTTP/2 over plaintext (h2c) is disabled.
+     *
+     * @return true if HTTP/2 over plaintext should be disabled
+     */
+    boolean http2PlainDisabled() default false;
+
+    /**
+     * Whether the request journal is disabled. Verifications aren't possible when the journal is disabled, but
+     * served requests aren't kept in memory either.
+     *
+     * @return true if the request journal should be disabled
+     */
+    boolean requestJournalDisabled() default false;
+
+    /**
+     * Maximum number of requests kept in the request journal. Once the limit is reached, the oldest requests are
+     * discarded. {@code 0} means the value given by {@link #profile()} is used, which is unbounded by default.
+     *
+     * @return the maximum number of request journal entries
+     */
+    int maxRequestJournalEntries() default 0;
+
+    /**
+     * Defines what {@link WireMockServer} logs while serving requests. Verbose logging is enabled by default.
+     *
+     * @return the notifier mode
+     */
+    NotifierMode notifier() default NotifierMode.VERBOSE;
+
+    /**
+     * Whether request counts, near misses, matching and response times are recorded. Recorded metrics can be injected
+     * with {@link InjectWireMock} as {@link WireMockMetrics}, and are also published to the Micrometer registry of
+     * the application context, if any. Metrics are discarded before each test by {@link ResetPolicy#FULL} resets, and
+     * accumulate across the tests of a class with any other policy. Pooled servers discard them when leased to
+     * another test class.
+     *
+     * @return true if metrics should be recorded
+     */
+    boolean metrics() default false;
+
+    /**
+     * Whether stubs are indexed by HTTP method and URL, so each request is only matched against the stubs that could
+     * match it. Recommended for servers holding thousands of stubs, mostly declared with exact URLs or paths, or URL
+     * regular expressions starting with a literal prefix.
+     *
+     * @return true if stubs should be indexed
+     */
+    boolean indexStubs() default false;
+
+    /**
+     * Whether response body files ({@code bodyFileName}) are cached, so they're not read again on each request. Small
+     * files are kept in a size-bounded LRU cache shared by every server, and large files on the file system are
+     * memory-mapped, so serving them doesn't churn the heap.
+     *
+     * @return true if body files should be cached
+     */
+    boolean cacheBodyFiles() default false;
 }
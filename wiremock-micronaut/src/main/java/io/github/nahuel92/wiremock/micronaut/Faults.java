@@ -0,0 +1,30 @@
+package io.github.nahuel92.wiremock.micronaut;
+
+import com.github.tomakehurst.wiremock.http.Fault;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Faults injected in a share of the responses of a WireMock server, see {@link ConfigureWireMock#faults()}.
+ */
+@Documented
+@Target({})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Faults {
+    /**
+     * Share of responses, between {@code 0} and {@code 1}, replaced by a fault. {@code 0} means no faults are injected.
+     *
+     * @return the fault rate
+     */
+    double rate() default 0;
+
+    /**
+     * Fault injected, e.g., the connection being reset or garbage being sent instead of a response.
+     *
+     * @return the fault
+     */
+    Fault value() default Fault.CONNECTION_RESET_BY_PEER;
+}
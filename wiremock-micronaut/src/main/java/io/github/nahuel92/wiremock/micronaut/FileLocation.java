@@ -0,0 +1,30 @@
+package io.github.nahuel92.wiremock.micronaut;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+
+/**
+ * Location of a file served by WireMock, used as a cache key. Last modified time and size are only tracked for files
+ * on the file system, since classpath resources can't change while tests are running.
+ */
+record FileLocation(URI uri, long lastModified, long size) {
+    static FileLocation of(final URI uri) {
+        if (!isOnFileSystem(uri)) {
+            return new FileLocation(uri, 0, 0);
+        }
+        try {
+            final var attributes = Files.readAttributes(Path.of(uri), BasicFileAttributes.class);
+            return new FileLocation(uri, attributes.lastModifiedTime().toMillis(), attributes.size());
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Failed to read attributes of " + uri, e);
+        }
+    }
+
+    static boolean isOnFileSystem(final URI uri) {
+        return "file".equals(uri.getScheme());
+    }
+}
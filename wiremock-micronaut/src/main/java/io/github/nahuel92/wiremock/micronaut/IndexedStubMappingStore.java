@@ -0,0 +1,217 @@
+package io.github.nahuel92.wiremock.micronaut;
+
+import com.github.tomakehurst.wiremock.http.Request;
+import com.github.tomakehurst.wiremock.http.RequestMethod;
+import com.github.tomakehurst.wiremock.matching.EqualToPattern;
+import com.github.tomakehurst.wiremock.matching.RegexPattern;
+import com.github.tomakehurst.wiremock.matching.RequestMatcherExtension;
+import com.github.tomakehurst.wiremock.matching.UrlPathPattern;
+import com.github.tomakehurst.wiremock.matching.UrlPattern;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import com.github.tomakehurst.wiremock.stubbing.SubEvent;
+import com.github.tomakehurst.wiremock.store.StubMappingStore;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * {@link StubMappingStore} that indexes stubs by HTTP method and URL, so each request is only matched against the
+ * stubs that could possibly match it instead of every stub. Stubs are indexed by:
+ * <ul>
+ *     <li>Exact URL ({@code urlEqualTo}) or exact path ({@code urlPathEqualTo}).</li>
+ *     <li>Literal prefix of URL or path regular expressions ({@code urlMatching("/users/.*")}).</li>
+ * </ul>
+ * Any other stub (e.g., {@code anyUrl()} or path templates) is matched against every request. Candidates are
+ * evaluated in the same order WireMock uses, i.e., by priority and then newest first, and stored in the delegate
+ * store as usual.
+ */
+class IndexedStubMappingStore implements StubMappingStore {
+    private static final int DEFAULT_PRIORITY = 5;
+    private static final Comparator<StubMapping> MATCHING_ORDER = Comparator
+            .comparingInt((StubMapping stub) -> stub.getPriority() != null ? stub.getPriority() : DEFAULT_PRIORITY)
+            .thenComparing(Comparator.comparingLong(StubMapping::getInsertionIndex).reversed());
+    private static final String REGEX_METACHARACTERS = "\\.[]{}()<>*+-=!?^$|";
+    private static final int MIN_PREFIX_LENGTH = 2;
+    private final StubMappingStore delegate;
+    private final Map<String, Map<UUID, StubMapping>> exactUrls = new ConcurrentHashMap<>();
+    private final Map<String, Map<UUID, StubMapping>> exactPaths = new ConcurrentHashMap<>();
+    private final Map<String, Map<UUID, StubMapping>> prefixes = new ConcurrentHashMap<>();
+    private final NavigableMap<Integer, Integer> prefixLengths = new ConcurrentSkipListMap<>();
+    private final Map<UUID, StubMapping> unindexed = new ConcurrentHashMap<>();
+    private final Map<UUID, IndexKey> indexKeys = new ConcurrentHashMap<>();
+
+    IndexedStubMappingStore(final StubMappingStore delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public Stream<StubMapping> getAll() {
+        return delegate.getAll();
+    }
+
+    @Override
+    public Optional<StubMapping> get(final UUID id) {
+        return delegate.get(id);
+    }
+
+    @Override
+    public Stream<StubMapping> findAllMatchingRequest(final Request request,
+                                                      final Map<String, RequestMatcherExtension> customMatchers,
+                                                      final Consumer<SubEvent> subEventConsumer) {
+        return findCandidates(request)
+                .stream()
+                .filter(stub -> {
+                    final var matchResult = stub.getRequest().match(request, customMatchers);
+                    matchResult.getSubEvents().forEach(subEventConsumer);
+                    return matchResult.isExactMatch();
+                });
+    }
+
+    @Override
+    public void remove(final UUID id) {
+        unindex(id);
+        delegate.remove(id);
+    }
+
+    @Override
+    public void add(final StubMapping stub) {
+        delegate.add(stub);
+        index(stub);
+    }
+
+    @Override
+    public void replace(final StubMapping existing, final StubMapping updated) {
+        unindex(existing.getId());
+        delegate.replace(existing, updated);
+        index(updated);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+        exactUrls.clear();
+        exactPaths.clear();
+        prefixes.clear();
+        prefixLengths.clear();
+        unindexed.clear();
+        indexKeys.clear();
+    }
+
+    private ArrayList<StubMapping> findCandidates(final Request request) {
+        final var url = request.getUrl();
+        final var queryStart = url.indexOf('?');
+        final var path = queryStart < 0 ? url : url.substring(0, queryStart);
+        final var method = request.getMethod().getName();
+        final var candidates = new ArrayList<>(unindexed.values());
+        // Only prefix lengths of indexed stubs are looked up, rather than every prefix of the URL.
+        final var urlPrefixes = prefixLengths.headMap(url.length(), true)
+                .keySet()
+                .stream()
+                .map(length -> url.substring(0, length))
+                .toList();
+        for (final var methodKey : new String[]{method, RequestMethod.ANY.getName()}) {
+            addCandidates(candidates, exactUrls, methodKey, url);
+            addCandidates(candidates, exactPaths, methodKey, path);
+            for (final var urlPrefix : urlPrefixes) {
+                addCandidates(candidates, prefixes, methodKey, urlPrefix);
+            }
+        }
+        candidates.sort(MATCHING_ORDER);
+        return candidates;
+    }
+
+    private static void addCandidates(final ArrayList<StubMapping> candidates,
+                                      final Map<String, Map<UUID, StubMapping>> index,
+                                      final String method, final String url) {
+        final var stubs = index.get(method + " " + url);
+        if (stubs != null) {
+            candidates.addAll(stubs.values());
+        }
+    }
+
+    private void index(final StubMapping stub) {
+        final var key = indexKeyOf(stub);
+        indexKeys.put(stub.getId(), key);
+        if (key.index() == null) {
+            unindexed.put(stub.getId(), stub);
+            return;
+        }
+        key.index().computeIfAbsent(key.value(), value -> new ConcurrentHashMap<>()).put(stub.getId(), stub);
+        if (key.prefixLength() > 0) {
+            prefixLengths.merge(key.prefixLength(), 1, Integer::sum);
+        }
+    }
+
+    private void unindex(final UUID id) {
+        final var key = indexKeys.remove(id);
+        if (key == null) {
+            return;
+        }
+        if (key.index() == null) {
+            unindexed.remove(id);
+            return;
+        }
+        key.index().computeIfPresent(key.value(), (value, stubs) -> {
+            stubs.remove(id);
+            return stubs.isEmpty() ? null : stubs;
+        });
+        if (key.prefixLength() > 0) {
+            prefixLengths.computeIfPresent(key.prefixLength(), (length, stubs) -> stubs == 1 ? null : stubs - 1);
+        }
+    }
+
+    private IndexKey indexKeyOf(final StubMapping stub) {
+        final var requestPattern = stub.getRequest();
+        final var urlPattern = requestPattern.getUrlMatcher();
+        if (requestPattern.getMethod() == null || urlPattern == null) {
+            return IndexKey.UNINDEXED;
+        }
+        final var method = requestPattern.getMethod().getName() + " ";
+        final var valuePattern = urlPattern.getPattern();
+        if (urlPattern.getClass() == UrlPattern.class && valuePattern instanceof EqualToPattern) {
+            return new IndexKey(exactUrls, method + valuePattern.getExpected(), 0);
+        }
+        if (urlPattern.getClass() == UrlPathPattern.class && valuePattern instanceof EqualToPattern) {
+            return new IndexKey(exactPaths, method + valuePattern.getExpected(), 0);
+        }
+        if ((urlPattern.getClass() == UrlPattern.class || urlPattern.getClass() == UrlPathPattern.class)
+                && valuePattern instanceof RegexPattern) {
+            final var prefix = literalPrefixOf(valuePattern.getExpected());
+            if (prefix.length() >= MIN_PREFIX_LENGTH) {
+                return new IndexKey(prefixes, method + prefix, prefix.length());
+            }
+        }
+        return IndexKey.UNINDEXED;
+    }
+
+    /**
+     * Returns the characters every string matching the given regular expression starts with, or an empty string if
+     * it can't be told for sure (e.g., alternations or optional first characters).
+     */
+    static String literalPrefixOf(final String regex) {
+        if (regex.indexOf('|') >= 0) {
+            return "";
+        }
+        final var start = regex.startsWith("^") ? 1 : 0;
+        var end = start;
+        while (end < regex.length() && REGEX_METACHARACTERS.indexOf(regex.charAt(end)) < 0) {
+            end++;
+        }
+        if (end < regex.length() && "*?{".indexOf(regex.charAt(end)) >= 0 && end > start) {
+            end--;  // The last literal character is optional or repeated.
+        }
+        return regex.substring(start, end);
+    }
+
+    private record IndexKey(Map<String, Map<UUID, StubMapping>> index, String value, int prefixLength) {
+        private static final IndexKey UNINDEXED = new IndexKey(null, null, 0);
+    }
+}
@@ -0,0 +1,90 @@
+package io.github.nahuel92.wiremock.micronaut;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.wiremock.grpc.dsl.WireMockGrpcService;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+/**
+ * Fields of a test class annotated with {@link InjectWireMock}. Fields are looked up and validated once per class,
+ * and turned into method handles, so injecting them before each test is just a matter of invoking the handles.
+ */
+class InjectionPlan {
+    static final Set<Class<?>> SUPPORTED_TYPES = Set.of(
+            WireMockServer.class, WireMockGrpcService.class, WireMockMetrics.class, LoadDriver.class
+    );
+    private static final String INVALID_USAGE =
+            "@InjectWireMock only works with [WireMockServer|WireMockGrpcService|WireMockMetrics|LoadDriver] types!";
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final ClassValue<InjectionPlan> PLANS = new ClassValue<>() {
+        @Override
+        protected InjectionPlan computeValue(final Class<?> testClass) {
+            return new InjectionPlan(
+                    AnnotationSupport.findAnnotatedFields(testClass, InjectWireMock.class)
+                            .stream()
+                            .map(InjectionPlan::toFieldInjection)
+                            .toList()
+            );
+        }
+    };
+    private final List<FieldInjection> fieldInjections;
+
+    private InjectionPlan(final List<FieldInjection> fieldInjections) {
+        this.fieldInjections = fieldInjections;
+    }
+
+    static InjectionPlan of(final Class<?> testClass) {
+        return PLANS.get(testClass);
+    }
+
+    /**
+     * Sets every annotated field of the given test instance.
+     *
+     * @param testInstance the test instance
+     * @param resolver     function returning the value to inject given the field type and the server name
+     */
+    void inject(final Object testInstance, final BiFunction<Class<?>, String, Object> resolver) {
+        for (final var fieldInjection : fieldInjections) {
+            final var value = resolver.apply(fieldInjection.type(), fieldInjection.serverName());
+            try {
+                fieldInjection.setter().invokeExact(testInstance, value);
+            } catch (final Throwable e) {
+                throw new IllegalStateException(
+                        "Couldn't inject WireMock instance with name '" + fieldInjection.serverName() + "'", e
+                );
+            }
+        }
+    }
+
+    private static FieldInjection toFieldInjection(final Field field) {
+        if (!SUPPORTED_TYPES.contains(field.getType())) {
+            throw new IllegalStateException(INVALID_USAGE);
+        }
+        try {
+            field.setAccessible(true);
+            var setter = LOOKUP.unreflectSetter(field);
+            if (Modifier.isStatic(field.getModifiers())) {
+                setter = MethodHandles.dropArguments(setter, 0, Object.class);  // The test instance is ignored.
+            }
+            return new FieldInjection(
+                    setter.asType(SETTER_TYPE),
+                    field.getType(),
+                    field.getAnnotation(InjectWireMock.class).value()
+            );
+        } catch (final IllegalAccessException e) {
+            throw new IllegalStateException("Couldn't access field: '" + field + "'", e);
+        }
+    }
+
+    private record FieldInjection(MethodHandle setter, Class<?> type, String serverName) {
+    }
+}
@@ -0,0 +1,73 @@
+package io.github.nahuel92.wiremock.micronaut;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Latency added to every response of a WireMock server, see {@link ConfigureWireMock#latency()}. Stubs declaring their
+ * own delays keep them.
+ */
+@Documented
+@Target({})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Latency {
+    /**
+     * Distribution of the delay added to every response.
+     *
+     * @return the latency distribution
+     */
+    LatencyDistribution distribution() default LatencyDistribution.NONE;
+
+    /**
+     * Delay, in milliseconds, for the {@link LatencyDistribution#FIXED} distribution.
+     *
+     * @return the fixed delay
+     */
+    int millis() default 0;
+
+    /**
+     * Lower bound, in milliseconds, for the {@link LatencyDistribution#UNIFORM} distribution.
+     *
+     * @return the lower bound
+     */
+    int lower() default 0;
+
+    /**
+     * Upper bound, in milliseconds, for the {@link LatencyDistribution#UNIFORM} distribution.
+     *
+     * @return the upper bound
+     */
+    int upper() default 0;
+
+    /**
+     * Median, in milliseconds, for the {@link LatencyDistribution#LOGNORMAL} distribution.
+     *
+     * @return the median
+     */
+    double median() default 0;
+
+    /**
+     * Standard deviation of the logarithm of the delay for the {@link LatencyDistribution#LOGNORMAL} distribution. The
+     * higher it is, the longer the tail of slow responses.
+     *
+     * @return the sigma
+     */
+    double sigma() default 0.1;
+
+    /**
+     * Number of chunks response bodies are split into, so they're sent in chunks spread over
+     * {@link #chunkedDuration()}. {@code 0} means bodies are sent at once.
+     *
+     * @return the number of chunks
+     */
+    int chunks() default 0;
+
+    /**
+     * Time, in milliseconds, over which response body chunks are sent, see {@link #chunks()}.
+     *
+     * @return the duration of chunked responses
+     */
+    int chunkedDuration() default 0;
+}
@@ -0,0 +1,28 @@
+package io.github.nahuel92.wiremock.micronaut;
+
+/**
+ * Distribution of the delay added to every response of a server configured with {@link ConfigureWireMock#latency()}.
+ */
+public enum LatencyDistribution {
+    /**
+     * No delay is added.
+     */
+    NONE,
+
+    /**
+     * Every response is delayed by {@link Latency#millis()}.
+     */
+    FIXED,
+
+    /**
+     * Responses are delayed by a random value between {@link Latency#lower()} and {@link Latency#upper()}.
+     */
+    UNIFORM,
+
+    /**
+     * Responses are delayed by a random value following a lognormal distribution with the given
+     * {@link Latency#median()} and {@link Latency#sigma()}, i.e., most responses are close to the median, with a long
+     * tail of slow ones, as real services do.
+     */
+    LOGNORMAL
+}
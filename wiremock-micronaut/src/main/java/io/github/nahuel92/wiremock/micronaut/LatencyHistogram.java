@@ -0,0 +1,115 @@
+package io.github.nahuel92.wiremock.micronaut;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free latency histogram with log-linear buckets: every power of two is split into 16 buckets, so recorded
+ * values are kept with a precision of about 6%, from nanoseconds up to hours, within a fixed amount of memory.
+ * Values can be recorded concurrently; reads aren't atomic snapshots, which is good enough for reporting.
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (Long.SIZE - SUB_BUCKET_BITS) * SUB_BUCKETS;
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final AtomicLong count = new AtomicLong();
+    private final AtomicLong total = new AtomicLong();
+    private final AtomicLong max = new AtomicLong();
+
+    LatencyHistogram() {
+    }
+
+    void record(final long nanos) {
+        final var value = Math.max(0, nanos);
+        counts.incrementAndGet(bucketOf(value));
+        count.incrementAndGet();
+        total.addAndGet(value);
+        max.accumulateAndGet(value, Math::max);
+    }
+
+    void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            counts.set(i, 0);
+        }
+        count.set(0);
+        total.set(0);
+        max.set(0);
+    }
+
+    /**
+     * @return the number of recorded values
+     */
+    public long count() {
+        return count.get();
+    }
+
+    /**
+     * @return the sum of every recorded value
+     */
+    public Duration total() {
+        return Duration.ofNanos(total.get());
+    }
+
+    /**
+     * @return the mean of the recorded values, or zero if there are none
+     */
+    public Duration mean() {
+        final var recorded = count.get();
+        return recorded == 0 ? Duration.ZERO : Duration.ofNanos(total.get() / recorded);
+    }
+
+    /**
+     * @return the highest recorded value
+     */
+    public Duration max() {
+        return Duration.ofNanos(max.get());
+    }
+
+    /**
+     * Returns the value below which the given percentage of recorded values fall, rounded up to the bucket it falls
+     * in.
+     *
+     * @param percentile the percentile, between 0 and 100
+     * @return the value at the given percentile, or zero if there are no recorded values
+     */
+    public Duration percentile(final double percentile) {
+        if (percentile < 0 || percentile > 100) {
+            throw new IllegalArgumentException("Percentile must be between 0 and 100, but was: " + percentile);
+        }
+        final var recorded = count.get();
+        if (recorded == 0) {
+            return Duration.ZERO;
+        }
+        final var target = Math.max(1, (long) Math.ceil(recorded * percentile / 100));
+        var accumulated = 0L;
+        for (int i = 0; i < BUCKETS; i++) {
+            accumulated += counts.get(i);
+            if (accumulated >= target) {
+                return Duration.ofNanos(Math.min(highestValueOf(i), max.get()));
+            }
+        }
+        return max();
+    }
+
+    @Override
+    public String toString() {
+        return "LatencyHistogram[count=" + count() + ", mean=" + mean() + ", p50=" + percentile(50) +
+                ", p99=" + percentile(99) + ", max=" + max() + "]";
+    }
+
+    private static int bucketOf(final long value) {
+        final var magnitude = Math.max(0, Long.SIZE - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS - 1);
+        return magnitude * SUB_BUCKETS + (int) (value >>> magnitude);
+    }
+
+    private static long highestValueOf(final int bucket) {
+        if (bucket < 2 * SUB_BUCKETS) {
+            return bucket;
+        }
+        final var magnitude = bucket / SUB_BUCKETS - 1;
+        final var subBucket = bucket - magnitude * SUB_BUCKETS;
+        return ((long) (subBucket + 1) << magnitude) - 1;
+    }
+}
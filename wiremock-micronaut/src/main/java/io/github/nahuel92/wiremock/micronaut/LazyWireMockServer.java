@@ -0,0 +1,279 @@
+package io.github.nahuel92.wiremock.micronaut;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.BindException;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+/**
+ * {@link WireMockServer} configured with {@link ConfigureWireMock#lazy()}. Its port is reserved upfront, so
+ * Micronaut properties can be set right away, but the server is created and started only when it's first requested
+ * (e.g., injected with {@link InjectWireMock}) or when the reserved port receives its first connection.
+ * <p>
+ * Connections are accepted on the reservation until the server is about to bind the port, and forwarded to the server
+ * once it's started, so clients connecting concurrently (e.g., a connection pool) aren't reset. The server is created
+ * (loading its stubs) while the reservation is still open, so only connections made while Jetty binds the port are
+ * refused.
+ * <p>
+ * The reservation has to be released right before the server binds the port, so another process may grab it in
+ * between. Bind failures are retried a few times before giving up with an error naming the port and the server.
+ */
+class LazyWireMockServer {
+    private static final Logger LOGGER = LoggerFactory.getLogger(LazyWireMockServer.class);
+    static final int BIND_ATTEMPTS = 3;
+    private static final long BIND_RETRY_DELAY_MS = 100;
+    private static final int ACCEPT_POLL_MS = 50;
+    private static final long RELEASE_TIMEOUT_MS = 1_000;
+    private final String name;
+    private final ServerSocket reservation;
+    private final IntFunction<WireMockServer> serverFactory;
+    private final Consumer<WireMockServer> serverStarter;
+    private final Consumer<WireMockServer> onStart;
+    private final List<Socket> pendingConnections = new CopyOnWriteArrayList<>();
+    private final CountDownLatch acceptorStopped = new CountDownLatch(1);
+    private volatile boolean releasing;
+    private WireMockServer server;
+    private boolean stopped;
+
+    private LazyWireMockServer(final String name, final ServerSocket reservation,
+                               final IntFunction<WireMockServer> serverFactory,
+                               final Consumer<WireMockServer> serverStarter, final Consumer<WireMockServer> onStart) {
+        this.name = name;
+        this.reservation = reservation;
+        this.serverFactory = serverFactory;
+        this.serverStarter = serverStarter;
+        this.onStart = onStart;
+    }
+
+    /**
+     * Reserves the given port (or a random one when {@code 0}) and accepts connections in the background.
+     *
+     * @param name          the name of the server
+     * @param port          the port to reserve
+     * @param serverFactory function creating a server (not started yet) listening on the reserved port
+     * @param serverStarter callback starting a server created by the factory
+     * @param onStart       callback notified once the server is started
+     * @return the lazy server
+     */
+    static LazyWireMockServer reserve(final String name, final int port, final IntFunction<WireMockServer> serverFactory,
+                                      final Consumer<WireMockServer> serverStarter,
+                                      final Consumer<WireMockServer> onStart) {
+        final var lazyServer = new LazyWireMockServer(name, bind(port), serverFactory, serverStarter, onStart);
+        Thread.ofVirtual().name("wiremock-lazy-" + name).start(lazyServer::acceptConnections);
+        LOGGER.info("Reserved port '{}' for lazy WireMockServer with name '{}'", lazyServer.port(), name);
+        return lazyServer;
+    }
+
+    int port() {
+        return reservation.getLocalPort();
+    }
+
+    String baseUrl() {
+        return "http://localhost:" + port();
+    }
+
+    /**
+     * Returns the server, starting it if needed.
+     *
+     * @return the started server
+     */
+    synchronized WireMockServer get() {
+        if (server != null) {
+            return server;
+        }
+        if (stopped) {
+            throw new IllegalStateException("Lazy WireMockServer with name '" + name + "' was already stopped");
+        }
+        try {
+            final var newServer = serverFactory.apply(port());
+            releaseReservation();
+            server = startOnReservedPort(newServer);
+        } catch (final RuntimeException e) {
+            closeReservation();
+            pendingConnections.forEach(LazyWireMockServer::closeQuietly);
+            pendingConnections.clear();
+            throw e;
+        }
+        onStart.accept(server);
+        pendingConnections.forEach(connection -> forward(connection, server.port()));
+        pendingConnections.clear();
+        return server;
+    }
+
+    synchronized void stop() {
+        stopped = true;
+        closeReservation();
+        pendingConnections.forEach(LazyWireMockServer::closeQuietly);
+        if (server != null) {
+            server.stop();
+        }
+    }
+
+    /**
+     * Accepts connections until the reservation is released, keeping them until the server is started. The first one
+     * starts the server. Once releasing, the backlog is drained until no connection arrives for a short while.
+     */
+    private void acceptConnections() {
+        try {
+            reservation.setSoTimeout(ACCEPT_POLL_MS);
+            while (true) {
+                try {
+                    pendingConnections.add(reservation.accept());
+                    if (pendingConnections.size() == 1) {
+                        Thread.ofVirtual().name("wiremock-lazy-start-" + name).start(this::startOnFirstConnection);
+                    }
+                } catch (final SocketTimeoutException e) {
+                    if (releasing) {
+                        return;
+                    }
+                }
+            }
+        } catch (final IOException e) {
+            // Reservation closed: the server was stopped, or the backlog couldn't be drained in time.
+        } finally {
+            acceptorStopped.countDown();
+        }
+    }
+
+    private void startOnFirstConnection() {
+        LOGGER.info("Starting lazy WireMockServer with name '{}' on first connection", name);
+        try {
+            get();
+        } catch (final RuntimeException e) {
+            LOGGER.error("Couldn't start lazy WireMockServer with name '{}'", name, e);
+        }
+    }
+
+    /**
+     * Stops accepting connections and closes the reservation, so the server can bind the port. Closing it resets the
+     * connections left in its backlog, so these are accepted first.
+     */
+    private void releaseReservation() {
+        releasing = true;
+        try {
+            if (!acceptorStopped.await(RELEASE_TIMEOUT_MS, TimeUnit.MILLISECONDS)) {
+                LOGGER.warn("Reserved port '{}' of lazy WireMockServer with name '{}' kept receiving connections, "
+                        + "some of them may be reset", port(), name);
+            }
+            closeReservation();
+            acceptorStopped.await();  // Closing the reservation makes a pending accept fail right away.
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            closeReservation();
+            throw new IllegalStateException("Interrupted while starting lazy WireMockServer", e);
+        }
+    }
+
+    private WireMockServer startOnReservedPort(final WireMockServer newServer) {
+        RuntimeException bindFailure = null;
+        var candidate = newServer;
+        for (int attempt = 1; attempt <= BIND_ATTEMPTS; attempt++) {
+            try {
+                if (attempt > 1) {
+                    candidate = serverFactory.apply(port());
+                }
+                serverStarter.accept(candidate);
+                return candidate;
+            } catch (final RuntimeException e) {
+                if (!isBindFailure(e)) {
+                    throw e;
+                }
+                candidate.stop();
+                bindFailure = e;
+                LOGGER.warn("Reserved port '{}' of lazy WireMockServer with name '{}' is in use (attempt {} of {})",
+                        port(), name, attempt, BIND_ATTEMPTS);
+                pause(attempt * BIND_RETRY_DELAY_MS);
+            }
+        }
+        throw new IllegalStateException("Reserved port '" + port() + "' of lazy WireMockServer with name '" + name
+                + "' was taken by another process before the server could bind it", bindFailure);
+    }
+
+    private static boolean isBindFailure(final Throwable failure) {
+        for (var cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof BindException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void pause(final long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting to start lazy WireMockServer", e);
+        }
+    }
+
+    private void closeReservation() {
+        closeQuietly(reservation);
+    }
+
+    private static ServerSocket bind(final int port) {
+        try {
+            final var serverSocket = new ServerSocket();
+            serverSocket.setReuseAddress(true);
+            serverSocket.bind(new InetSocketAddress(port));
+            return serverSocket;
+        } catch (final IOException e) {
+            throw new UncheckedIOException("Couldn't reserve port '" + port + "' for lazy WireMockServer", e);
+        }
+    }
+
+    private static void forward(final Socket connection, final int port) {
+        try {
+            final var upstream = new Socket("localhost", port);
+            final var requests = Thread.ofVirtual().start(() -> pipe(connection, upstream));
+            final var responses = Thread.ofVirtual().start(() -> pipe(upstream, connection));
+            Thread.ofVirtual().start(() -> {
+                try {
+                    requests.join();
+                    responses.join();
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    closeQuietly(upstream);
+                    closeQuietly(connection);
+                }
+            });
+        } catch (final IOException e) {
+            LOGGER.warn("Couldn't forward connection to lazy WireMockServer on port '{}'", port, e);
+            closeQuietly(connection);
+        }
+    }
+
+    private static void pipe(final Socket source, final Socket target) {
+        try {
+            source.getInputStream().transferTo(target.getOutputStream());
+            target.shutdownOutput();
+        } catch (final SocketException e) {
+            // One of the sides closed the connection.
+        } catch (final IOException e) {
+            LOGGER.debug("Forwarding connection to lazy WireMockServer failed", e);
+        }
+    }
+
+    private static void closeQuietly(final AutoCloseable closeable) {
+        try {
+            closeable.close();
+        } catch (final Exception e) {
+            LOGGER.debug("Couldn't close '{}'", closeable, e);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package io.github.nahuel92.wiremock.micronaut;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.matching.RequestPattern;
+import com.google.common.base.Preconditions;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Runs a call (e.g., a request made through a Micronaut HTTP client) under load using virtual threads, and measures
+ * its latency alongside the requests received by a WireMock server. Can be injected with {@link InjectWireMock}:
+ * <pre>{@code
+ * @InjectWireMock("user-service")
+ * private LoadDriver loadDriver;
+ *
+ * @Test
+ * void test() {
+ *     final var result = loadDriver.atFixedRate(200, Duration.ofSeconds(10), () -> userClient.findOne(1L));
+ *     assertThat(result.latency().percentile(99)).isLessThan(Duration.ofMillis(250));
+ * }
+ * }</pre>
+ */
+public final class LoadDriver {
+    private final WireMockServer server;
+
+    LoadDriver(final WireMockServer server) {
+        this.server = server;
+    }
+
+    /**
+     * Starts calls at a fixed rate for the given duration, regardless of how long previous calls take, as independent
+     * users would do (i.e., an open workload). Latency is measured from the time each call was scheduled to start.
+     *
+     * @param callsPerSecond number of calls started per second
+     * @param duration       time during which calls are started
+     * @param call           the call to run
+     * @return the result of the run, once every call has completed
+     */
+    public LoadResult atFixedRate(final double callsPerSecond, final Duration duration, final Callable<?> call) {
+        Preconditions.checkArgument(callsPerSecond > 0, "Calls per second must be positive, but was %s", callsPerSecond);
+        final var intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / callsPerSecond);
+        final var totalCalls = (long) Math.ceil(duration.toNanos() / (double) intervalNanos);
+        final var run = new Run();
+        try (final var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; i < totalCalls; i++) {
+                final var intendedStart = run.start + i * intervalNanos;
+                for (var now = System.nanoTime(); now < intendedStart; now = System.nanoTime()) {
+                    LockSupport.parkNanos(intendedStart - now);
+                }
+                executor.execute(() -> run.call(call, intendedStart));
+            }
+        }
+        return run.result();
+    }
+
+    /**
+     * Keeps the given number of calls in flight for the given duration, starting a new call as soon as one completes
+     * (i.e., a closed workload).
+     *
+     * @param concurrency number of concurrent callers
+     * @param duration    time during which calls are started
+     * @param call        the call to run
+     * @return the result of the run, once every call has completed
+     */
+    public LoadResult withConcurrency(final int concurrency, final Duration duration, final Callable<?> call) {
+        Preconditions.checkArgument(concurrency > 0, "Concurrency must be positive, but was %s", concurrency);
+        final var run = new Run();
+        final var deadline = run.start + duration.toNanos();
+        try (final var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < concurrency; i++) {
+                executor.execute(() -> {
+                    while (System.nanoTime() < deadline) {
+                        run.call(call, System.nanoTime());
+                    }
+                });
+            }
+        }
+        return run.result();
+    }
+
+    private long countServerRequests() {
+        final var metrics = ServerMetricsExtension.metricsOf(server);
+        if (metrics != null) {
+            return metrics.requests();
+        }
+        if (server.getOptions().requestJournalDisabled()) {
+            return -1;
+        }
+        return server.countRequestsMatching(RequestPattern.everything()).getCount();
+    }
+
+    private class Run {
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LatencyHistogram serviceTime = new LatencyHistogram();
+        private final long serverRequestsBefore = countServerRequests();
+        private final long start = System.nanoTime();
+
+        private void call(final Callable<?> call, final long intendedStart) {
+            final var actualStart = System.nanoTime();
+            try {
+                call.call();
+            } catch (final Exception e) {
+                errors.increment();
+            } finally {
+                final var end = System.nanoTime();
+                calls.increment();
+                latency.record(end - intendedStart);
+                serviceTime.record(end - actualStart);
+            }
+        }
+
+        private LoadResult result() {
+            final var serverRequestsAfter = countServerRequests();
+            return new LoadResult(
+                    calls.sum(),
+                    errors.sum(),
+                    Duration.ofNanos(System.nanoTime() - start),
+                    latency,
+                    serviceTime,
+                    serverRequestsBefore < 0 || serverRequestsAfter < 0 ? -1 : serverRequestsAfter - serverRequestsBefore
+            );
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package io.github.nahuel92.wiremock.micronaut;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * Outcome of a load run of a {@link LoadDriver}: calls made, failed calls, latency and how many requests the WireMock
+ * server received meanwhile.
+ */
+public final class LoadResult {
+    private final long calls;
+    private final long errors;
+    private final Duration duration;
+    private final LatencyHistogram latency;
+    private final LatencyHistogram serviceTime;
+    private final long serverRequests;
+
+    LoadResult(final long calls, final long errors, final Duration duration, final LatencyHistogram latency,
+               final LatencyHistogram serviceTime, final long serverRequests) {
+        this.calls = calls;
+        this.errors = errors;
+        this.duration = duration;
+        this.latency = latency;
+        this.serviceTime = serviceTime;
+        this.serverRequests = serverRequests;
+    }
+
+    /**
+     * @return the number of calls made, including failed ones
+     */
+    public long calls() {
+        return calls;
+    }
+
+    /**
+     * @return the number of calls that threw an exception
+     */
+    public long errors() {
+        return errors;
+    }
+
+    /**
+     * @return the time taken by the run, until the last call completed
+     */
+    public Duration duration() {
+        return duration;
+    }
+
+    /**
+     * @return the number of calls completed per second
+     */
+    public double throughput() {
+        return duration.isZero() ? 0 : calls * 1_000_000_000.0 / duration.toNanos();
+    }
+
+    /**
+     * Latency of calls as experienced by callers. For fixed-rate runs, latency is measured from the time each call
+     * was scheduled to start rather than from the time it actually started, so calls delayed by slow previous ones
+     * aren't left out (i.e., it's corrected for coordinated omission).
+     *
+     * @return the latency of calls
+     */
+    public LatencyHistogram latency() {
+        return latency;
+    }
+
+    /**
+     * @return the time taken by calls from the time they actually started
+     */
+    public LatencyHistogram serviceTime() {
+        return serviceTime;
+    }
+
+    /**
+     * Number of requests the WireMock server received during the run, taken from its {@link WireMockMetrics} if
+     * enabled, or from its request journal otherwise.
+     *
+     * @return the number of requests received by the server, or {@code -1} if they couldn't be counted
+     */
+    public long serverRequests() {
+        return serverRequests;
+    }
+
+    @Override
+    public String toString() {
+        return "LoadResult{calls=" + calls + ", errors=" + errors + ", duration=" + duration
+                + ", throughput=" + String.format(Locale.ROOT, "%.1f/s", throughput())
+                + ", latency=" + latency + ", serviceTime=" + serviceTime + ", serverRequests=" + serverRequests + "}";
+    }
+}
@@ -4,15 +4,35 @@ import com.github.tomakehurst.wiremock.extension.ExtensionFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
 
 /**
  * Utility class that uses Method Handles to create instances.
+ * Constructor handles are looked up once per class, and classes annotated with {@link Reusable} are only instantiated
+ * once.
  */
 public class MethodHandleUtils {
     private static final Logger LOGGER = LoggerFactory.getLogger(WireMockMicronautExtension.class);
     private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final ClassValue<Instantiator> INSTANTIATORS = new ClassValue<>() {
+        @Override
+        protected Instantiator computeValue(final Class<?> type) {
+            try {
+                final var constructor = LOOKUP.findConstructor(type, MethodType.methodType(void.class))
+                        .asType(MethodType.methodType(Object.class));
+                if (type.isAnnotationPresent(Reusable.class)) {
+                    // ClassValue may compute a value more than once under contention and keep only one of them, so
+                    // the instance is created on first use rather than here.
+                    return new ReusableInstantiator(constructor);
+                }
+                return () -> (Object) constructor.invokeExact();
+            } catch (final NoSuchMethodException | IllegalAccessException e) {
+                throw new InstantiatorLookupException(e);  // Not cached, so the next lookup fails the same way.
+            }
+        }
+    };
 
     public static WireMockConfigurationCustomizer getCustomizer(final Class<? extends WireMockConfigurationCustomizer> customizer) {
         try {
@@ -35,10 +55,48 @@ public class MethodHandleUtils {
         }
     }
 
-    @SuppressWarnings("unchecked")
-    private static <T> T getInstance(final Class<?> returnClass, final Class<? extends T> typeClass) throws Throwable {
-        return (T) LOOKUP.findConstructor(returnClass, MethodType.methodType(void.class))
-                .asType(MethodType.methodType(typeClass))
-                .invoke();
+    private static <T> T getInstance(final Class<?> returnClass, final Class<T> typeClass) throws Throwable {
+        final Instantiator instantiator;
+        try {
+            instantiator = INSTANTIATORS.get(returnClass);
+        } catch (final InstantiatorLookupException e) {
+            throw e.getCause();
+        }
+        return typeClass.cast(instantiator.newInstance());
+    }
+
+    @FunctionalInterface
+    private interface Instantiator {
+        Object newInstance() throws Throwable;
+    }
+
+    private static class ReusableInstantiator implements Instantiator {
+        private final MethodHandle constructor;
+        private volatile Object instance;
+
+        private ReusableInstantiator(final MethodHandle constructor) {
+            this.constructor = constructor;
+        }
+
+        @Override
+        public Object newInstance() throws Throwable {
+            var result = instance;
+            if (result == null) {
+                synchronized (this) {
+                    result = instance;
+                    if (result == null) {
+                        result = (Object) constructor.invokeExact();
+                        instance = result;
+                    }
+                }
+            }
+            return result;
+        }
+    }
+
+    private static class InstantiatorLookupException extends RuntimeException {
+        InstantiatorLookupException(final Throwable cause) {
+            super(cause);
+        }
     }
 }
\ No newline at end of file
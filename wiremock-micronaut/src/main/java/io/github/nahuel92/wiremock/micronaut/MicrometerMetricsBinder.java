@@ -0,0 +1,53 @@
+package io.github.nahuel92.wiremock.micronaut;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micronaut.context.ApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes {@link WireMockMetrics} to Micrometer. Micrometer is an optional dependency, so this class must only be
+ * loaded once it's known to be on the classpath.
+ */
+class MicrometerMetricsBinder {
+    private MicrometerMetricsBinder() {
+    }
+
+    static void bind(final ApplicationContext applicationContext, final String serverName, final WireMockMetrics metrics) {
+        applicationContext.findBean(MeterRegistry.class).ifPresent(registry -> bind(registry, serverName, metrics));
+    }
+
+    private static void bind(final MeterRegistry registry, final String serverName, final WireMockMetrics metrics) {
+        FunctionCounter.builder("wiremock.requests", metrics, WireMockMetrics::requests)
+                .description("Requests received by the WireMock server")
+                .tag("server", serverName)
+                .register(registry);
+        FunctionCounter.builder("wiremock.requests.unmatched", metrics, WireMockMetrics::unmatchedRequests)
+                .description("Requests that didn't match any stub of the WireMock server")
+                .tag("server", serverName)
+                .register(registry);
+        bind(registry, "wiremock.matching", "Time spent matching requests against stubs", serverName,
+                metrics.matchingTime());
+        bind(registry, "wiremock.response", "Time spent serving responses after matching", serverName,
+                metrics.responseTime());
+    }
+
+    private static void bind(final MeterRegistry registry, final String name, final String description,
+                             final String serverName, final LatencyHistogram histogram) {
+        FunctionTimer.builder(name, histogram, LatencyHistogram::count,
+                        value -> value.total().toNanos(), TimeUnit.NANOSECONDS)
+                .description(description)
+                .tag("server", serverName)
+                .register(registry);
+        for (final var percentile : new double[]{50, 99}) {
+            TimeGauge.builder(name + ".percentile", histogram, TimeUnit.NANOSECONDS,
+                            value -> value.percentile(percentile).toNanos())
+                    .description(description)
+                    .tags("server", serverName, "percentile", String.valueOf(percentile / 100))
+                    .register(registry);
+        }
+    }
+}
@@ -79,6 +79,17 @@ public @interface MicronautWireMockTest {
      */
     boolean rebuildContext() default false;
 
+    /**
+     * Whether to share the application context, along with its WireMock servers, with other test classes having the
+     * same configuration. Shared contexts are kept in a least recently used cache whose size is set with the
+     * {@code wiremock.micronaut.context-cache.max-size} JUnit configuration parameter. Ignored when
+     * {@link #rebuildContext()} is enabled or when the test class declares its own beans, e.g., with
+     * {@link io.micronaut.test.annotation.MockBean}.
+     *
+     * @return true if the application context should be shared with other test classes
+     */
+    boolean cacheContext() default false;
+
     /**
      * The application context builder to use to construct the context.
      *
@@ -0,0 +1,29 @@
+package io.github.nahuel92.wiremock.micronaut;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+
+/**
+ * Defines what {@link WireMockServer} logs while serving requests.
+ */
+public enum NotifierMode {
+    /**
+     * Nothing is logged.
+     */
+    OFF,
+
+    /**
+     * Only errors are logged.
+     */
+    ERRORS,
+
+    /**
+     * Every request, response and mismatch is logged.
+     */
+    VERBOSE,
+
+    /**
+     * Same as {@link #VERBOSE}, but messages are logged by a background thread, so Jetty threads don't wait on the
+     * logging backend.
+     */
+    ASYNC
+}
@@ -0,0 +1,103 @@
+package io.github.nahuel92.wiremock.micronaut;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Starts several {@link WireMockServer} instances concurrently, so the setup of a test class declaring many servers
+ * takes roughly as long as its slowest server.
+ */
+class ParallelServerStarter {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ParallelServerStarter.class);
+
+    /**
+     * Starts a server for each configuration using virtual threads and waits for all of them to finish.
+     *
+     * @param options       the server configurations
+     * @param serverFactory function creating a started server for a given configuration
+     * @param discardAction action disposing of a server started successfully when another one failed (e.g., stopping
+     *                      it, or giving it back to its pool)
+     * @return the started servers, in the same order as {@code options}
+     * @throws IllegalStateException if any server couldn't be started. The failure of the first configuration (in
+     *                               declaration order) is used as the cause, and the remaining ones are suppressed.
+     *                               Servers started successfully are discarded before throwing.
+     */
+    static List<WireMockServer> startAll(final List<ConfigureWireMock> options,
+                                         final Function<ConfigureWireMock, WireMockServer> serverFactory,
+                                         final BiConsumer<ConfigureWireMock, WireMockServer> discardAction) {
+        if (options.isEmpty()) {
+            return List.of();
+        }
+        if (options.size() == 1) {
+            try {
+                return List.of(serverFactory.apply(options.getFirst()));
+            } catch (final RuntimeException e) {
+                throw addFailure(null, options.getFirst(), e);
+            }
+        }
+        final var futures = new ArrayList<Future<WireMockServer>>(options.size());
+        try (final var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (final var each : options) {
+                futures.add(executor.submit(() -> serverFactory.apply(each)));
+            }
+        }
+        return collect(options, futures, discardAction);
+    }
+
+    private static List<WireMockServer> collect(final List<ConfigureWireMock> options,
+                                                final List<Future<WireMockServer>> futures,
+                                                final BiConsumer<ConfigureWireMock, WireMockServer> discardAction) {
+        final var servers = new ArrayList<WireMockServer>(futures.size());
+        IllegalStateException failure = null;
+        for (int i = 0; i < futures.size(); i++) {
+            try {
+                servers.add(futures.get(i).get());
+                continue;
+            } catch (final ExecutionException e) {
+                failure = addFailure(failure, options.get(i), e.getCause());
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failure = addFailure(failure, options.get(i), e);
+            }
+            servers.add(null);
+        }
+        if (failure != null) {
+            discardAll(servers, options, discardAction);
+            throw failure;
+        }
+        return servers;
+    }
+
+    private static IllegalStateException addFailure(final IllegalStateException failure, final ConfigureWireMock options,
+                                                    final Throwable cause) {
+        final var serverFailure = new IllegalStateException(
+                "Couldn't start WireMockServer with name '" + options.name() + "'", cause
+        );
+        if (failure == null) {
+            return serverFailure;
+        }
+        failure.addSuppressed(serverFailure);
+        return failure;
+    }
+
+    private static void discardAll(final List<WireMockServer> servers, final List<ConfigureWireMock> options,
+                                   final BiConsumer<ConfigureWireMock, WireMockServer> discardAction) {
+        for (int i = 0; i < servers.size(); i++) {
+            final var server = servers.get(i);
+            if (server != null) {
+                LOGGER.info("Discarding WireMockServer with name '{}' since another server failed to start",
+                        options.get(i).name());
+                discardAction.accept(options.get(i), server);
+            }
+        }
+    }
+}
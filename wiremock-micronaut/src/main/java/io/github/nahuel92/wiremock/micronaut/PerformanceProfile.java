@@ -0,0 +1,54 @@
+package io.github.nahuel92.wiremock.micronaut;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+
+/**
+ * Predefined sets of settings for {@link WireMockServer}. Settings explicitly given on {@link ConfigureWireMock}
+ * always take precedence over the ones defined by the profile.
+ */
+public enum PerformanceProfile {
+    /**
+     * Uses WireMock defaults.
+     */
+    DEFAULT(0, 0, 0, 0),
+
+    /**
+     * Tuned for load and soak tests: a larger container thread pool, one acceptor per two cores, asynchronous
+     * responses, so delayed responses don't hold container threads, and a request journal bounded to 10000 entries.
+     */
+    LOAD_TEST(
+            Math.max(200, Runtime.getRuntime().availableProcessors() * 16),
+            Math.max(1, Runtime.getRuntime().availableProcessors() / 2),
+            Runtime.getRuntime().availableProcessors() * 2,
+            10_000
+    );
+
+    private final int containerThreads;
+    private final int jettyAcceptors;
+    private final int asynchronousResponseThreads;
+    private final int maxRequestJournalEntries;
+
+    PerformanceProfile(final int containerThreads, final int jettyAcceptors, final int asynchronousResponseThreads,
+                       final int maxRequestJournalEntries) {
+        this.containerThreads = containerThreads;
+        this.jettyAcceptors = jettyAcceptors;
+        this.asynchronousResponseThreads = asynchronousResponseThreads;
+        this.maxRequestJournalEntries = maxRequestJournalEntries;
+    }
+
+    int containerThreads() {
+        return containerThreads;
+    }
+
+    int jettyAcceptors() {
+        return jettyAcceptors;
+    }
+
+    int asynchronousResponseThreads() {
+        return asynchronousResponseThreads;
+    }
+
+    int maxRequestJournalEntries() {
+        return maxRequestJournalEntries;
+    }
+}
@@ -0,0 +1,102 @@
+package io.github.nahuel92.wiremock.micronaut;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Supplier;
+
+/**
+ * Times the phases the extension goes through for a test class, e.g., application context startup, server creation
+ * and start, property publishing, resets or injection. Each phase is recorded as a {@link PhaseEvent} in JFR (when a
+ * recording is running) and published as a JUnit report entry, in milliseconds, by {@link #publish(ExtensionContext)}.
+ * <p>
+ * Phases can be timed from any thread (e.g., servers are started concurrently), but they're only published from the
+ * thread calling {@link #publish(ExtensionContext)}.
+ */
+class PhaseTimings {
+    private final String testClass;
+    private final Queue<Timing> timings = new ConcurrentLinkedQueue<>();
+
+    PhaseTimings(final Class<?> testClass) {
+        this.testClass = testClass.getName();
+    }
+
+    void time(final String phase, final Runnable action) {
+        time(phase, null, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Times the given action.
+     *
+     * @param phase  name of the phase
+     * @param server name of the server the phase belongs to, or {@code null} if it belongs to the whole test class
+     * @param action the action to time
+     * @return the result of the action
+     */
+    <T> T time(final String phase, final String server, final Supplier<T> action) {
+        final var event = new PhaseEvent();
+        event.begin();
+        final var start = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            final var elapsedNanos = System.nanoTime() - start;
+            event.end();
+            if (event.shouldCommit()) {
+                event.testClass = testClass;
+                event.server = server;
+                event.phase = phase;
+                event.commit();
+            }
+            timings.add(new Timing(phase, server, elapsedNanos));
+        }
+    }
+
+    /**
+     * Publishes the phases timed since the last call as JUnit report entries, keyed by
+     * {@code wiremock.[server.]phase-ms}.
+     */
+    void publish(final ExtensionContext extensionContext) {
+        Timing timing;
+        while ((timing = timings.poll()) != null) {
+            extensionContext.publishReportEntry(timing.key(), String.format(Locale.ROOT, "%.3f", timing.millis()));
+        }
+    }
+
+    private record Timing(String phase, String server, long elapsedNanos) {
+        private String key() {
+            return server == null ? "wiremock." + phase + "-ms" : "wiremock." + server + "." + phase + "-ms";
+        }
+
+        private double millis() {
+            return elapsedNanos / 1_000_000.0;
+        }
+    }
+
+    @Name("io.github.nahuel92.wiremock.micronaut.Phase")
+    @Label("WireMock Micronaut Phase")
+    @Category({"WireMock", "Micronaut"})
+    @Description("A phase of the setup of a @MicronautWireMockTest class or test")
+    @StackTrace(false)
+    static class PhaseEvent extends Event {
+        @Label("Test Class")
+        String testClass;
+
+        @Label("Server")
+        String server;
+
+        @Label("Phase")
+        String phase;
+    }
+}
@@ -0,0 +1,212 @@
+package io.github.nahuel92.wiremock.micronaut;
+
+import com.github.tomakehurst.wiremock.common.Gzip;
+import com.github.tomakehurst.wiremock.common.Json;
+import com.github.tomakehurst.wiremock.core.WireMockServices;
+import com.github.tomakehurst.wiremock.extension.Extension;
+import com.github.tomakehurst.wiremock.extension.ExtensionFactory;
+import com.github.tomakehurst.wiremock.extension.MappingsLoaderExtension;
+import com.github.tomakehurst.wiremock.extension.Parameters;
+import com.github.tomakehurst.wiremock.extension.ServeEventListener;
+import com.github.tomakehurst.wiremock.http.ContentTypeHeader;
+import com.github.tomakehurst.wiremock.http.RequestMethod;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import com.github.tomakehurst.wiremock.stubbing.StubMappings;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.any;
+import static com.github.tomakehurst.wiremock.client.WireMock.anyUrl;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.equalToJson;
+import static com.github.tomakehurst.wiremock.client.WireMock.request;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+
+/**
+ * Records the requests served by a server configured with {@link ConfigureWireMock#recordFrom()}. Requests not
+ * matching any other stub are proxied to the target URL, and each proxied exchange is written to the stub directory as
+ * soon as it completes: the mapping under {@code mappings/} and the response body under {@code __files/}, named after
+ * its content hash, so identical bodies are only written once. Nothing is kept in memory besides the requests already
+ * recorded, so repeated requests aren't recorded twice.
+ */
+class RecordingExtension implements ExtensionFactory {
+    private static final Logger LOGGER = LoggerFactory.getLogger(RecordingExtension.class);
+    private static final Set<String> IGNORED_RESPONSE_HEADERS = Set.of(
+            "connection", "content-encoding", "content-length", "date", "keep-alive", "matched-stub-id", "server",
+            "transfer-encoding", "vary"
+    );
+    private final String targetUrl;
+    private final Path directory;
+
+    RecordingExtension(final String targetUrl, final Path directory) {
+        this.targetUrl = targetUrl;
+        this.directory = directory;
+    }
+
+    @Override
+    public List<Extension> create(final WireMockServices services) {
+        return List.of(new Recorder(targetUrl, directory));
+    }
+
+    private static class Recorder implements MappingsLoaderExtension, ServeEventListener {
+        private final UUID proxyStubId = UUID.randomUUID();
+        private final Set<String> recordedRequests = ConcurrentHashMap.newKeySet();
+        private final String targetUrl;
+        private final Path mappingsDirectory;
+        private final Path filesDirectory;
+
+        private Recorder(final String targetUrl, final Path directory) {
+            this.targetUrl = targetUrl;
+            this.mappingsDirectory = directory.resolve("mappings");
+            this.filesDirectory = directory.resolve("__files");
+        }
+
+        @Override
+        public String getName() {
+            return "wiremock-micronaut-recorder";
+        }
+
+        /**
+         * Adds the proxy stub every time the default mappings are loaded, so it survives full resets. It has the lowest
+         * priority, so stubs registered by tests (or recorded previously) still take precedence.
+         */
+        @Override
+        public void loadMappingsInto(final StubMappings stubMappings) {
+            stubMappings.addMapping(any(anyUrl())
+                    .withId(proxyStubId)
+                    .atPriority(Integer.MAX_VALUE)
+                    .willReturn(aResponse().proxiedFrom(targetUrl))
+                    .build());
+        }
+
+        @Override
+        public void afterComplete(final ServeEvent serveEvent, final Parameters parameters) {
+            final var stubMapping = serveEvent.getStubMapping();
+            if (!serveEvent.getWasMatched() || stubMapping == null || !proxyStubId.equals(stubMapping.getId())) {
+                return;
+            }
+            final var request = serveEvent.getRequest();
+            final var requestBody = request.getBody() != null ? request.getBody() : new byte[0];
+            final var requestKey = request.getMethod() + " " + request.getUrl() + " " + HashUtils.sha256(requestBody);
+            if (!recordedRequests.add(requestKey)) {
+                return;
+            }
+            try {
+                record(serveEvent, requestBody);
+            } catch (final IOException e) {
+                throw new UncheckedIOException("Failed to record " + request.getMethod() + " " + request.getUrl(), e);
+            }
+        }
+
+        private void record(final ServeEvent serveEvent, final byte[] requestBody) throws IOException {
+            final var request = serveEvent.getRequest();
+            final var response = serveEvent.getResponse();
+            final var requestPattern = request(request.getMethod().getName(), urlEqualTo(request.getUrl()));
+            if (requestBody.length > 0) {
+                final var body = new String(requestBody, StandardCharsets.UTF_8);
+                requestPattern.withRequestBody(isJson(mimeTypeOf(request.contentTypeHeader()))
+                        ? equalToJson(body, true, false)
+                        : equalTo(body));
+            }
+            final var responseDefinition = aResponse().withStatus(response.getStatus());
+            for (final var header : response.getHeaders().all()) {
+                if (!IGNORED_RESPONSE_HEADERS.contains(header.key().toLowerCase(Locale.ROOT))) {
+                    responseDefinition.withHeader(header.key(), header.values().toArray(String[]::new));
+                }
+            }
+            final var responseBody = responseBodyOf(serveEvent);
+            if (responseBody.length > 0) {
+                final var mimeType = mimeTypeOf(response.getHeaders().getContentTypeHeader());
+                responseDefinition.withBodyFile(writeBodyFile(responseBody, mimeType));
+            }
+            final var stub = requestPattern.willReturn(responseDefinition).build();
+            final var mappingFile = mappingsDirectory.resolve(fileNameOf(request.getMethod(), request.getUrl(), stub));
+            write(mappingFile, Json.write(stub).getBytes(StandardCharsets.UTF_8), StandardOpenOption.CREATE_NEW);
+            LOGGER.info("Recorded {} {} as '{}'", request.getMethod(), request.getUrl(), mappingFile);
+        }
+
+        private static byte[] responseBodyOf(final ServeEvent serveEvent) {
+            final var response = serveEvent.getResponse();
+            final var body = response.getBody() != null ? response.getBody() : new byte[0];
+            final var contentEncoding = response.getHeaders().getHeader("Content-Encoding");
+            if (body.length > 0 && contentEncoding.isPresent() && contentEncoding.containsValue("gzip")) {
+                return Gzip.unGzip(body);
+            }
+            return body;
+        }
+
+        /**
+         * Writes the given body to a file named after its content hash, unless it was already written.
+         *
+         * @return the name of the body file, relative to {@code __files/}
+         */
+        private String writeBodyFile(final byte[] body, final String mimeType) throws IOException {
+            final var fileName = "body-" + HashUtils.sha256(body).substring(0, 32) + "." + extensionOf(mimeType);
+            try {
+                write(filesDirectory.resolve(fileName), body, StandardOpenOption.CREATE_NEW);
+            } catch (final FileAlreadyExistsException e) {
+                // Same content recorded previously.
+            }
+            return fileName;
+        }
+
+        private static void write(final Path file, final byte[] content, final StandardOpenOption mode)
+                throws IOException {
+            Files.createDirectories(file.getParent());
+            try (final var channel = FileChannel.open(file, mode, StandardOpenOption.WRITE)) {
+                final var buffer = ByteBuffer.wrap(content);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+        }
+
+        private static String fileNameOf(final RequestMethod method, final String url, final StubMapping stub) {
+            final var path = url.split("\\?", 2)[0].replaceAll("[^A-Za-z0-9]+", "-").replaceAll("^-|-$", "");
+            return method.getName().toLowerCase(Locale.ROOT) + "-" + (path.isEmpty() ? "root" : path) + "-"
+                    + stub.getId() + ".json";
+        }
+
+        private static String mimeTypeOf(final ContentTypeHeader contentTypeHeader) {
+            return contentTypeHeader.isPresent() ? contentTypeHeader.mimeTypePart() : null;
+        }
+
+        private static boolean isJson(final String mimeType) {
+            return mimeType != null && mimeType.toLowerCase(Locale.ROOT).contains("json");
+        }
+
+        private static String extensionOf(final String mimeType) {
+            if (mimeType == null) {
+                return "bin";
+            }
+            final var type = mimeType.toLowerCase(Locale.ROOT);
+            if (type.contains("json")) {
+                return "json";
+            }
+            if (type.contains("xml")) {
+                return "xml";
+            }
+            if (type.contains("html")) {
+                return "html";
+            }
+            return type.startsWith("text/") ? "txt" : "bin";
+        }
+    }
+}
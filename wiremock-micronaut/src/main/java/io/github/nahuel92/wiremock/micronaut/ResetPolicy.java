@@ -0,0 +1,46 @@
+package io.github.nahuel92.wiremock.micronaut;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+
+/**
+ * Defines how a {@link WireMockServer} is reset before each test.
+ */
+public enum ResetPolicy {
+    /**
+     * Resets everything with {@link WireMockServer#resetAll()}, reloading the stubs from
+     * {@link ConfigureWireMock#stubLocation()}, and discards the recorded {@link WireMockMetrics}.
+     */
+    FULL,
+
+    /**
+     * Removes the stubs registered after the server was started, restores the ones loaded from
+     * {@link ConfigureWireMock#stubLocation()} that tests edited or removed, clears the request journal and resets
+     * scenarios. Loaded stubs are kept in memory, so mapping files aren't loaded again.
+     */
+    PROGRAMMATIC,
+
+    /**
+     * Removes the stubs registered after the server was started, and restores the ones loaded from
+     * {@link ConfigureWireMock#stubLocation()} that tests edited or removed. The request journal and scenarios are
+     * kept.
+     */
+    PROGRAMMATIC_STUBS,
+
+    /**
+     * Restores the stubs present before the first test ran, i.e., the ones loaded from
+     * {@link ConfigureWireMock#stubLocation()} plus the ones registered in {@code @BeforeAll} methods, clears the
+     * request journal and resets scenarios. Only stubs added, edited or removed by tests are touched, so a large
+     * baseline isn't rebuilt before each test.
+     */
+    SNAPSHOT,
+
+    /**
+     * Clears the request journal only.
+     */
+    REQUESTS,
+
+    /**
+     * Keeps the server untouched between tests.
+     */
+    NONE
+}
@@ -0,0 +1,85 @@
+package io.github.nahuel92.wiremock.micronaut;
+
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.extension.ResponseDefinitionTransformerV2;
+import com.github.tomakehurst.wiremock.http.DelayDistribution;
+import com.github.tomakehurst.wiremock.http.FixedDelayDistribution;
+import com.github.tomakehurst.wiremock.http.LogNormal;
+import com.github.tomakehurst.wiremock.http.ResponseDefinition;
+import com.github.tomakehurst.wiremock.http.UniformDistribution;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import com.google.common.base.Preconditions;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Applies the {@link Latency} and {@link Faults} declared on {@link ConfigureWireMock} to every response of a server.
+ * Stubs declaring their own delays or faults keep them.
+ */
+class ResponseProfileTransformer implements ResponseDefinitionTransformerV2 {
+    private final DelayDistribution delayDistribution;
+    private final Latency latency;
+    private final Faults faults;
+
+    ResponseProfileTransformer(final Latency latency, final Faults faults) {
+        Preconditions.checkArgument(faults.rate() >= 0 && faults.rate() <= 1,
+                "Fault rate must be between 0 and 1, but was %s", faults.rate());
+        Preconditions.checkArgument(latency.chunks() >= 0 && latency.chunkedDuration() >= 0,
+                "Chunks and chunked duration can't be negative");
+        this.delayDistribution = delayDistributionOf(latency);
+        this.latency = latency;
+        this.faults = faults;
+    }
+
+    static boolean isEnabled(final ConfigureWireMock options) {
+        return options.latency().distribution() != LatencyDistribution.NONE
+                || options.latency().chunks() > 0
+                || options.faults().rate() > 0;
+    }
+
+    private static DelayDistribution delayDistributionOf(final Latency latency) {
+        return switch (latency.distribution()) {
+            case NONE -> null;
+            case FIXED -> {
+                Preconditions.checkArgument(latency.millis() >= 0, "Fixed latency can't be negative");
+                yield new FixedDelayDistribution(latency.millis());
+            }
+            case UNIFORM -> {
+                Preconditions.checkArgument(latency.lower() >= 0 && latency.lower() <= latency.upper(),
+                        "Uniform latency bounds must satisfy 0 <= lower <= upper, but were %s and %s",
+                        latency.lower(), latency.upper());
+                yield new UniformDistribution(latency.lower(), latency.upper());
+            }
+            case LOGNORMAL -> {
+                Preconditions.checkArgument(latency.median() > 0 && latency.sigma() >= 0,
+                        "Lognormal latency needs a positive median and a non-negative sigma");
+                yield new LogNormal(latency.median(), latency.sigma());
+            }
+        };
+    }
+
+    @Override
+    public String getName() {
+        return "wiremock-micronaut-response-profile";
+    }
+
+    @Override
+    public ResponseDefinition transform(final ServeEvent serveEvent) {
+        final var responseDefinition = serveEvent.getResponseDefinition();
+        if (responseDefinition.getFault() != null) {
+            return responseDefinition;
+        }
+        final var builder = ResponseDefinitionBuilder.like(responseDefinition);
+        if (faults.rate() > 0 && ThreadLocalRandom.current().nextDouble() < faults.rate()) {
+            return builder.withFault(faults.value()).build();
+        }
+        if (delayDistribution != null && responseDefinition.getFixedDelayMilliseconds() == null
+                && responseDefinition.getDelayDistribution() == null) {
+            builder.withRandomDelay(delayDistribution);
+        }
+        if (latency.chunks() > 0 && responseDefinition.getChunkedDribbleDelay() == null) {
+            builder.withChunkedDribbleDelay(latency.chunks(), latency.chunkedDuration());
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,18 @@
+package io.github.nahuel92.wiremock.micronaut;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a {@link WireMockConfigurationCustomizer} or {@link com.github.tomakehurst.wiremock.extension.ExtensionFactory}
+ * as stateless, so a single instance is created and shared by every WireMock server that uses it instead of creating
+ * a new one per server.
+ */
+@Documented
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Reusable {
+}
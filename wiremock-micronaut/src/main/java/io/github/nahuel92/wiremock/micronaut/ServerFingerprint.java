@@ -0,0 +1,45 @@
+package io.github.nahuel92.wiremock.micronaut;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Canonical representation of the {@link ConfigureWireMock} attributes that shape a WireMock server, e.g., port,
+ * stub location, extensions, customizers or Jetty settings. Attributes only relevant to the Micronaut side or to the
+ * lifecycle of the server (e.g., {@link ConfigureWireMock#properties()}) are left out on purpose, so test classes
+ * binding the same server to different properties can still share it.
+ */
+record ServerFingerprint(Map<String, Object> attributes) {
+    private static final Set<String> NON_SERVER_ATTRIBUTES = Set.of("properties", "portProperty", "pooled", "reset", "lazy");
+    private static final List<Method> SERVER_ATTRIBUTES = Arrays.stream(ConfigureWireMock.class.getDeclaredMethods())
+            .filter(method -> !NON_SERVER_ATTRIBUTES.contains(method.getName()))
+            .sorted(Comparator.comparing(Method::getName))
+            .toList();
+
+    static ServerFingerprint of(final ConfigureWireMock options) {
+        final var attributes = new LinkedHashMap<String, Object>();
+        for (final var attribute : SERVER_ATTRIBUTES) {
+            attributes.put(attribute.getName(), valueOf(attribute, options));
+        }
+        return new ServerFingerprint(attributes);
+    }
+
+    String name() {
+        return (String) attributes.get("name");
+    }
+
+    private static Object valueOf(final Method attribute, final ConfigureWireMock options) {
+        try {
+            final var value = attribute.invoke(options);
+            return value instanceof Object[] array ? List.of(array) : value;
+        } catch (final IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Couldn't read attribute '" + attribute.getName() + "'", e);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package io.github.nahuel92.wiremock.micronaut;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.core.Admin;
+import com.github.tomakehurst.wiremock.core.WireMockServices;
+import com.github.tomakehurst.wiremock.extension.Extension;
+import com.github.tomakehurst.wiremock.extension.ExtensionFactory;
+import com.github.tomakehurst.wiremock.extension.Parameters;
+import com.github.tomakehurst.wiremock.extension.ServeEventListener;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registers a {@link ServeEventListener} recording the {@link WireMockMetrics} of a server configured with
+ * {@link ConfigureWireMock#metrics()}. Near misses are only looked up for unmatched requests, so matched requests
+ * don't pay for them.
+ */
+class ServerMetricsExtension implements ExtensionFactory {
+    private final WireMockMetrics metrics = new WireMockMetrics();
+
+    /**
+     * @return the metrics recorded by the given server, or {@code null} if it wasn't configured to record them
+     */
+    static WireMockMetrics metricsOf(final WireMockServer server) {
+        for (final var factory : server.getOptions().getDeclaredExtensions().getFactories()) {
+            if (factory instanceof ServerMetricsExtension serverMetricsExtension) {
+                return serverMetricsExtension.metrics;
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public List<Extension> create(final WireMockServices services) {
+        return List.of(new Listener(metrics, services.getAdmin()));
+    }
+
+    private static class Listener implements ServeEventListener {
+        private final WireMockMetrics metrics;
+        private final Admin admin;
+        private final Map<UUID, Long> matchStarts = new ConcurrentHashMap<>();
+        private final Map<UUID, Long> matchEnds = new ConcurrentHashMap<>();
+
+        private Listener(final WireMockMetrics metrics, final Admin admin) {
+            this.metrics = metrics;
+            this.admin = admin;
+        }
+
+        @Override
+        public String getName() {
+            return "wiremock-micronaut-metrics";
+        }
+
+        @Override
+        public void beforeMatch(final ServeEvent serveEvent, final Parameters parameters) {
+            matchStarts.put(serveEvent.getId(), System.nanoTime());
+        }
+
+        @Override
+        public void afterMatch(final ServeEvent serveEvent, final Parameters parameters) {
+            final var now = System.nanoTime();
+            final var start = matchStarts.remove(serveEvent.getId());
+            final var stubMapping = serveEvent.getWasMatched() ? serveEvent.getStubMapping() : null;
+            metrics.recordMatch(stubMapping != null ? stubMapping.getId() : null, start != null ? now - start : 0);
+            matchEnds.put(serveEvent.getId(), now);
+        }
+
+        @Override
+        public void afterComplete(final ServeEvent serveEvent, final Parameters parameters) {
+            final var matchEnd = matchEnds.remove(serveEvent.getId());
+            if (matchEnd != null) {
+                metrics.recordResponse(System.nanoTime() - matchEnd);
+            }
+            if (!serveEvent.getWasMatched()) {
+                final var nearMisses = admin.findTopNearMissesFor(serveEvent.getRequest()).getNearMisses();
+                if (!nearMisses.isEmpty()) {
+                    metrics.recordNearMiss(nearMisses.getFirst().getStubMapping().getId());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package io.github.nahuel92.wiremock.micronaut;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Resets a {@link WireMockServer} before each test according to its {@link ResetPolicy}. Programmatic resets take a
+ * snapshot of the stubs present when the resetter is created (i.e., the ones loaded from the stub location) as the
+ * baseline to restore. Snapshot resets take it on the first reset instead, so stubs registered in {@code @BeforeAll}
+ * methods are part of it.
+ */
+class ServerResetter {
+    private final WireMockServer server;
+    private final ResetPolicy policy;
+    private final WireMockMetrics metrics;
+    private Map<UUID, StubMapping> snapshot;
+
+    private ServerResetter(final WireMockServer server, final ResetPolicy policy) {
+        this.server = server;
+        this.policy = policy;
+        this.metrics = ServerMetricsExtension.metricsOf(server);
+    }
+
+    static ServerResetter of(final WireMockServer server, final ConfigureWireMock options) {
+        final var resetter = new ServerResetter(server, options.reset());
+        if (options.reset() == ResetPolicy.PROGRAMMATIC || options.reset() == ResetPolicy.PROGRAMMATIC_STUBS) {
+            resetter.snapshot = resetter.snapshotOfStubs();
+        }
+        return resetter;
+    }
+
+    /**
+     * Takes the snapshot of a server using {@link ResetPolicy#SNAPSHOT} right away. Used for servers started while a
+     * test is running (e.g., lazy servers), since the stubs registered by that test must not be part of the snapshot.
+     *
+     * @return this resetter
+     */
+    ServerResetter takeSnapshot() {
+        if (policy == ResetPolicy.SNAPSHOT) {
+            snapshot = snapshotOfStubs();
+        }
+        return this;
+    }
+
+    private Map<UUID, StubMapping> snapshotOfStubs() {
+        final var stubs = new LinkedHashMap<UUID, StubMapping>();
+        server.getStubMappings()
+                .stream()
+                .sorted(Comparator.comparingLong(StubMapping::getInsertionIndex))
+                .forEach(stubMapping -> stubs.put(stubMapping.getId(), stubMapping));
+        return Collections.unmodifiableMap(stubs);
+    }
+
+    void reset() {
+        switch (policy) {
+            case FULL -> {
+                server.resetAll();
+                if (metrics != null) {
+                    metrics.reset();
+                }
+            }
+            case PROGRAMMATIC, SNAPSHOT -> {
+                restoreSnapshot();
+                server.resetRequests();
+                server.resetScenarios();
+            }
+            case PROGRAMMATIC_STUBS -> restoreSnapshot();
+            case REQUESTS -> server.resetRequests();
+            case NONE -> {
+                // Nothing to reset.
+            }
+        }
+    }
+
+    /**
+     * Removes the stubs added since the snapshot was taken, and restores the ones edited since then. Edited stubs keep
+     * their place in the matching order, but removed ones would be matched as the newest ones among stubs with the
+     * same priority if added back, so every stub of the snapshot is registered again, in its original order, when any
+     * of them was removed.
+     */
+    private void restoreSnapshot() {
+        if (snapshot == null) {
+            takeSnapshot();
+            return;
+        }
+        final var stubMappings = server.getStubMappings();
+        if (stubMappings.stream().filter(stubMapping -> snapshot.containsKey(stubMapping.getId())).count()
+                < snapshot.size()) {
+            server.resetMappings();
+            snapshot.values().forEach(server::addStubMapping);
+            return;
+        }
+        for (final var stubMapping : stubMappings) {
+            final var snapshotStub = snapshot.get(stubMapping.getId());
+            if (snapshotStub == null) {
+                server.removeStubMapping(stubMapping);
+            } else if (snapshotStub != stubMapping && !snapshotStub.equals(stubMapping)) {
+                server.editStubMapping(snapshotStub);
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package io.github.nahuel92.wiremock.micronaut;
+
+import com.github.tomakehurst.wiremock.common.FileSource;
+import com.github.tomakehurst.wiremock.store.BlobStore;
+import com.github.tomakehurst.wiremock.store.DefaultStores;
+import com.github.tomakehurst.wiremock.store.StubMappingStore;
+
+/**
+ * {@link DefaultStores} replacing the stores WireMock keeps in memory by the ones enabled on {@link ConfigureWireMock}.
+ * gRPC descriptors are always shared between servers.
+ */
+class ServerStores extends DefaultStores {
+    private static final String GRPC_BLOB_STORE = "grpc";
+    private static final String FILES_BLOB_STORE = "__files";
+    private final FileSource fileRoot;
+    private final StubMappingStore stubMappingStore;
+    private final boolean cacheBodyFiles;
+
+    ServerStores(final FileSource fileRoot, final ConfigureWireMock options) {
+        super(fileRoot);
+        this.fileRoot = fileRoot;
+        this.stubMappingStore = options.indexStubs()
+                ? new IndexedStubMappingStore(super.getStubMappingStore())
+                : super.getStubMappingStore();
+        this.cacheBodyFiles = options.cacheBodyFiles();
+    }
+
+    @Override
+    public StubMappingStore getStubMappingStore() {
+        return stubMappingStore;
+    }
+
+    @Override
+    public BlobStore getFilesBlobStore() {
+        final var blobStore = super.getFilesBlobStore();
+        if (!cacheBodyFiles) {
+            return blobStore;
+        }
+        return new CachingFilesBlobStore(blobStore, fileRoot.child(FILES_BLOB_STORE));
+    }
+
+    @Override
+    public BlobStore getBlobStore(final String name) {
+        final var blobStore = super.getBlobStore(name);
+        if (!GRPC_BLOB_STORE.equals(name)) {
+            return blobStore;
+        }
+        return new SharedDescriptorBlobStore(blobStore, fileRoot.child(name));
+    }
+}
@@ -0,0 +1,92 @@
+package io.github.nahuel92.wiremock.micronaut;
+
+import com.github.tomakehurst.wiremock.common.FileSource;
+import com.github.tomakehurst.wiremock.common.InputStreamSource;
+import com.github.tomakehurst.wiremock.store.BlobStore;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * {@link BlobStore} sharing the gRPC descriptor files ({@code grpc/*.dsc}) read by every WireMock server in the JVM.
+ * Descriptors are read once per file and deduplicated by content hash, so servers mocking the same gRPC services from
+ * different stub locations share a single copy. Files outside the classpath are read again once they change, replacing
+ * the previous copy, which is dropped once no other file shares it.
+ */
+class SharedDescriptorBlobStore implements BlobStore {
+    private static final Map<URI, Descriptor> DESCRIPTORS = new ConcurrentHashMap<>();
+    private static final Map<String, byte[]> CONTENTS = new ConcurrentHashMap<>();
+    private final BlobStore delegate;
+    private final FileSource fileSource;
+
+    SharedDescriptorBlobStore(final BlobStore delegate, final FileSource fileSource) {
+        this.delegate = delegate;
+        this.fileSource = fileSource;
+    }
+
+    @Override
+    public Optional<byte[]> get(final String key) {
+        final var location = FileLocation.of(fileSource.getBinaryFileNamed(key).getUri());
+        final var descriptor = DESCRIPTORS.get(location.uri());
+        if (descriptor != null && descriptor.location().equals(location)) {
+            return Optional.of(descriptor.content());
+        }
+        return delegate.get(key).map(content -> share(location, content));
+    }
+
+    static int sharedContentCount() {
+        return CONTENTS.size();
+    }
+
+    private static synchronized byte[] share(final FileLocation location, final byte[] content) {
+        final var hash = HashUtils.sha256(content);
+        final var sharedContent = CONTENTS.computeIfAbsent(hash, key -> content);
+        final var previous = DESCRIPTORS.put(location.uri(), new Descriptor(location, hash, sharedContent));
+        if (previous != null && !previous.hash().equals(hash) && !isShared(previous.hash())) {
+            CONTENTS.remove(previous.hash());
+        }
+        return sharedContent;
+    }
+
+    private static boolean isShared(final String hash) {
+        return DESCRIPTORS.values().stream().anyMatch(descriptor -> descriptor.hash().equals(hash));
+    }
+
+    @Override
+    public Optional<InputStream> getStream(final String key) {
+        return get(key).map(ByteArrayInputStream::new);
+    }
+
+    @Override
+    public InputStreamSource getStreamSource(final String key) {
+        return () -> getStream(key).orElse(null);
+    }
+
+    @Override
+    public Stream<String> getAllKeys() {
+        return delegate.getAllKeys();
+    }
+
+    @Override
+    public void put(final String key, final byte[] content) {
+        delegate.put(key, content);
+    }
+
+    @Override
+    public void remove(final String key) {
+        delegate.remove(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    private record Descriptor(FileLocation location, String hash, byte[] content) {
+    }
+}
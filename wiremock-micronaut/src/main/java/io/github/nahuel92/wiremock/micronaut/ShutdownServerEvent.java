@@ -1,6 +1,5 @@
 package io.github.nahuel92.wiremock.micronaut;
 
-import com.github.tomakehurst.wiremock.WireMockServer;
 import io.micronaut.context.ApplicationContext;
 import io.micronaut.context.event.ApplicationEventListener;
 import io.micronaut.context.event.ShutdownEvent;
@@ -8,15 +7,19 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /**
- * Event to stop WireMock instances when the {@link ApplicationContext} is shut down.
+ * Event to stop WireMock instances, or to release pooled ones, when the {@link ApplicationContext} is shut down.
  */
-record ShutdownServerEvent(WireMockServer wireMockServer, ConfigureWireMock options)
+record ShutdownServerEvent(Runnable stopAction, ConfigureWireMock options)
         implements ApplicationEventListener<ShutdownEvent> {
     private static final Logger LOGGER = LoggerFactory.getLogger(ShutdownServerEvent.class);
 
     @Override
     public void onApplicationEvent(final ShutdownEvent event) {
-        LOGGER.info("Stopping WireMockServer with name '{}'", options.name());
-        wireMockServer.stop();
+        if (options.pooled()) {
+            LOGGER.info("Releasing pooled WireMockServer with name '{}'", options.name());
+        } else {
+            LOGGER.info("Stopping WireMockServer with name '{}'", options.name());
+        }
+        stopAction.run();
     }
 }
\ No newline at end of file
@@ -0,0 +1,20 @@
+package io.github.nahuel92.wiremock.micronaut;
+
+import com.github.tomakehurst.wiremock.common.Notifier;
+
+/**
+ * {@link Notifier} that discards every message.
+ */
+class SilentNotifier implements Notifier {
+    @Override
+    public void info(final String message) {
+    }
+
+    @Override
+    public void error(final String message) {
+    }
+
+    @Override
+    public void error(final String message, final Throwable t) {
+    }
+}
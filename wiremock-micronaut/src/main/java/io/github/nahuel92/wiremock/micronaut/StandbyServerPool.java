@@ -0,0 +1,118 @@
+package io.github.nahuel92.wiremock.micronaut;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.LinkedHashMap;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * JVM-wide pool of idle {@link WireMockServer} instances started in the background, so test classes don't pay for
+ * creating and starting their servers. Standby servers are generic: they're only handed out to configurations that
+ * only differ from the defaults by their name (and Micronaut-side attributes such as properties), and that have no stub
+ * files in their stub location. Stubs and properties are applied by each test class as usual once a standby server is
+ * handed out, and another one is started in the background to replace it.
+ * <p>
+ * The pool is disabled by default. It's enabled by setting the {@value #SIZE_PARAMETER} JUnit configuration
+ * parameter to the number of idle servers to keep, and started with the first test class using the extension.
+ */
+class StandbyServerPool implements ExtensionContext.Store.CloseableResource {
+    static final String SIZE_PARAMETER = "wiremock.micronaut.standby-pool.size";
+    private static final Logger LOGGER = LoggerFactory.getLogger(StandbyServerPool.class);
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(StandbyServerPool.class);
+    private static final ConfigureWireMock TEMPLATE = StandbyServer.class.getAnnotation(ConfigureWireMock.class);
+    private static final ServerFingerprint TEMPLATE_FINGERPRINT = ServerFingerprint.of(TEMPLATE);
+    private final Queue<WireMockServer> idleServers = new ConcurrentLinkedQueue<>();
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final int size;
+    private volatile boolean closed;
+
+    StandbyServerPool(final int size) {
+        this.size = size;
+        for (int i = 0; i < size; i++) {
+            startStandbyServer();
+        }
+    }
+
+    static StandbyServerPool get(final ExtensionContext extensionContext) {
+        return extensionContext.getRoot()
+                .getStore(NAMESPACE)
+                .getOrComputeIfAbsent(
+                        StandbyServerPool.class,
+                        key -> new StandbyServerPool(
+                                extensionContext.getConfigurationParameter(SIZE_PARAMETER, Integer::parseInt).orElse(0)
+                        ),
+                        StandbyServerPool.class
+                );
+    }
+
+    /**
+     * Returns an idle standby server for the given configuration, if it can stand in for it and there's one
+     * available. The caller owns the returned server, and must stop it once done.
+     *
+     * @return a running server, or {@code null} if none can be handed out
+     */
+    WireMockServer take(final ConfigureWireMock options) {
+        if (size == 0 || !canStandIn(options)) {
+            return null;
+        }
+        for (var server = idleServers.poll(); server != null; server = idleServers.poll()) {
+            startStandbyServer();
+            if (server.isRunning()) {
+                LOGGER.info("Using standby WireMockServer for name '{}' on port: '{}'", options.name(), server.port());
+                return server;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return the number of standby servers started and waiting to be handed out
+     */
+    int idleCount() {
+        return idleServers.size();
+    }
+
+    private static boolean canStandIn(final ConfigureWireMock options) {
+        final var attributes = new LinkedHashMap<>(ServerFingerprint.of(options).attributes());
+        attributes.put("name", TEMPLATE.name());
+        if (!TEMPLATE_FINGERPRINT.equals(new ServerFingerprint(attributes))) {
+            return false;
+        }
+        final var classLoader = StandbyServerPool.class.getClassLoader();
+        return classLoader.getResource("wiremock/" + options.name()) == null;  // Stub files would be missing.
+    }
+
+    private void startStandbyServer() {
+        executor.execute(() -> {
+            if (closed) {
+                return;
+            }
+            final var server = new WireMockServer(WireMockConfigurationMapper.from(TEMPLATE));
+            server.start();
+            idleServers.offer(server);
+            if (closed && idleServers.remove(server)) {
+                server.stop();  // Closed while starting.
+            }
+        });
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        executor.shutdown();
+        for (var server = idleServers.poll(); server != null; server = idleServers.poll()) {
+            LOGGER.info("Stopping standby WireMockServer on port: '{}'", server.port());
+            server.stop();
+        }
+    }
+
+    @ConfigureWireMock(name = "wiremock-micronaut-standby")
+    private static class StandbyServer {
+    }
+}
@@ -0,0 +1,38 @@
+package io.github.nahuel92.wiremock.micronaut;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+/**
+ * Utility class that makes Jetty thread pools run requests in virtual threads. Jetty classes are relocated by
+ * {@code wiremock-standalone}, so thread pools are configured reflectively instead of referencing them directly.
+ */
+class VirtualThreadPools {
+    private static final String SET_VIRTUAL_THREADS_EXECUTOR = "setVirtualThreadsExecutor";
+
+    private VirtualThreadPools() {
+    }
+
+    /**
+     * Configures the given Jetty thread pool to run requests in virtual threads. Jetty keeps using its own threads
+     * for selecting and accepting connections, but request handling (including fixed delays) happens in virtual
+     * threads, so delayed responses no longer hold container threads.
+     *
+     * @param threadPool Jetty thread pool supporting virtual threads (e.g., {@code QueuedThreadPool})
+     * @return the given thread pool
+     */
+    static <T> T useVirtualThreads(final T threadPool) {
+        try {
+            threadPool.getClass()
+                    .getMethod(SET_VIRTUAL_THREADS_EXECUTOR, Executor.class)
+                    .invoke(threadPool, Executors.newThreadPerTaskExecutor(
+                            Thread.ofVirtual().name("wiremock-virtual-", 0).factory()
+                    ));
+            return threadPool;
+        } catch (final ReflectiveOperationException e) {
+            throw new IllegalStateException(
+                    "Jetty thread pool '" + threadPool.getClass().getName() + "' doesn't support virtual threads", e
+            );
+        }
+    }
+}
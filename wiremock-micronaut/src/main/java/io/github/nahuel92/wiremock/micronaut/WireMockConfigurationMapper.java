@@ -1,10 +1,17 @@
 package io.github.nahuel92.wiremock.micronaut;
 
+import com.github.tomakehurst.wiremock.common.Notifier;
 import com.github.tomakehurst.wiremock.common.Slf4jNotifier;
 import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
 import com.github.tomakehurst.wiremock.extension.ExtensionFactory;
+import com.github.tomakehurst.wiremock.standalone.JsonFileMappingsSource;
+import com.github.tomakehurst.wiremock.store.DefaultStores;
 
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.List;
 
 import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
 
@@ -12,34 +19,194 @@ import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options
  * Mapper to convert a {@link ConfigureWireMock} into a {@link WireMockConfiguration}.
  */
 class WireMockConfigurationMapper {
+    private static final Path TEST_RESOURCES = Path.of("src", "test", "resources");
+    private static final List<Path> TEST_BUILD_OUTPUTS = List.of(
+            Path.of("target", "test-classes"),
+            Path.of("build", "resources", "test")
+    );
+
     public static WireMockConfiguration from(final ConfigureWireMock options) {
         final var serverOptions = options()
                 .port(options.port())
-                .notifier(new Slf4jNotifier(true));
+                .notifier(getNotifier(options));
         if (options.extensions().length > 0) {
             serverOptions.extensions(options.extensions());
         }
         resolveStubLocation(options, serverOptions);
+        applyJettySettings(options, serverOptions);
+        applyRequestJournalSettings(options, serverOptions);
         applyCustomizers(options, serverOptions);
+        cacheStubMappings(serverOptions);
+        applyStores(options, serverOptions);
+        if (StringUtils.isNotBlank(options.recordFrom())) {
+            serverOptions.extensions(new RecordingExtension(options.recordFrom(), recordingDirectoryOf(options)));
+        }
+        if (ResponseProfileTransformer.isEnabled(options)) {
+            serverOptions.extensions(new ResponseProfileTransformer(options.latency(), options.faults()));
+        }
+        if (options.metrics()) {
+            serverOptions.extensions(new ServerMetricsExtension());
+        }
         serverOptions.extensions(getExtensionFactories(options));
         return serverOptions;
     }
 
+    private static Notifier getNotifier(final ConfigureWireMock options) {
+        return switch (options.notifier()) {
+            case OFF -> new SilentNotifier();
+            case ERRORS -> new Slf4jNotifier(false);
+            case VERBOSE -> new Slf4jNotifier(true);
+            case ASYNC -> new AsyncNotifier(new Slf4jNotifier(true));
+        };
+    }
+
     private static void resolveStubLocation(final ConfigureWireMock options, final WireMockConfiguration serverOptions) {
         if (options.stubLocationOnClasspath()) {
-            final var stubLocation = StringUtils.defaultIfBlank(options.stubLocation(), "wiremock/" + options.name());
-            serverOptions.usingFilesUnderClasspath(stubLocation);
+            serverOptions.usingFilesUnderClasspath(getClasspathStubLocation(options));
             return;
         }
         serverOptions.usingFilesUnderDirectory(options.stubLocation());
     }
 
+    /**
+     * Returns the directory recordings are written to. Recordings of classpath stub locations are written to the test
+     * resources the build output they're loaded from was copied from, so they don't depend on the working directory.
+     */
+    static Path recordingDirectoryOf(final ConfigureWireMock options) {
+        if (!options.stubLocationOnClasspath()) {
+            return Path.of(options.stubLocation());
+        }
+        final var stubLocation = getClasspathStubLocation(options).replaceAll("^/+|/+$", "");
+        final var classLoader = WireMockConfigurationMapper.class.getClassLoader();
+        // The stub location may not exist yet before the first recording, so its closest existing parent is used.
+        for (var location = stubLocation; location != null; location = parentOf(location)) {
+            final var resource = classLoader.getResource(location);
+            if (resource == null || !"file".equals(resource.getProtocol())) {
+                continue;
+            }
+            final var sourceRoot = sourceRootOf(classpathRootOf(resource, location));
+            if (sourceRoot != null) {
+                return sourceRoot.resolve(stubLocation);
+            }
+        }
+        throw new IllegalStateException("Couldn't find the test resources directory of classpath stub location '"
+                + stubLocation + "' to record to, set 'stubLocationOnClasspath' to false and 'stubLocation' to the "
+                + "directory to record to instead");
+    }
+
+    private static String parentOf(final String location) {
+        if (location.isEmpty()) {
+            return null;
+        }
+        final var separator = location.lastIndexOf('/');
+        return separator > 0 ? location.substring(0, separator) : "";
+    }
+
+    private static Path classpathRootOf(final URL resource, final String location) {
+        try {
+            final var root = Path.of(resource.toURI());
+            return location.isEmpty() ? root : ancestorOf(root, Path.of(location).getNameCount());
+        } catch (final URISyntaxException e) {
+            throw new IllegalStateException("Couldn't resolve classpath location '" + location + "'", e);
+        }
+    }
+
+    /**
+     * @return the test resources directory the given build output directory is copied from, or {@code null} if it
+     * isn't a known Maven or Gradle test output directory
+     */
+    private static Path sourceRootOf(final Path classpathRoot) {
+        for (final var buildOutput : TEST_BUILD_OUTPUTS) {
+            if (classpathRoot.endsWith(buildOutput)) {
+                return ancestorOf(classpathRoot, buildOutput.getNameCount()).resolve(TEST_RESOURCES);
+            }
+        }
+        return null;
+    }
+
+    private static Path ancestorOf(final Path path, final int levels) {
+        var ancestor = path;
+        for (var i = 0; i < levels; i++) {
+            ancestor = ancestor.getParent();
+        }
+        return ancestor;
+    }
+
+    private static String getClasspathStubLocation(final ConfigureWireMock options) {
+        return StringUtils.defaultIfBlank(options.stubLocation(), "wiremock/" + options.name());
+    }
+
+    private static void applyJettySettings(final ConfigureWireMock options, final WireMockConfiguration serverOptions) {
+        final var profile = options.profile();
+        final var containerThreads = firstPositive(options.containerThreads(), profile.containerThreads());
+        if (containerThreads > 0) {
+            serverOptions.containerThreads(containerThreads);
+        }
+        final var jettyAcceptors = firstPositive(options.jettyAcceptors(), profile.jettyAcceptors());
+        if (jettyAcceptors > 0) {
+            serverOptions.jettyAcceptors(jettyAcceptors);
+        }
+        final var asynchronousResponseThreads = firstPositive(
+                options.asynchronousResponseThreads(), profile.asynchronousResponseThreads()
+        );
+        if (asynchronousResponseThreads > 0) {
+            serverOptions.asynchronousResponseEnabled(true).asynchronousResponseThreads(asynchronousResponseThreads);
+        }
+        if (options.jettyHeaderRequestSize() > 0) {
+            serverOptions.jettyHeaderRequestSize(options.jettyHeaderRequestSize());
+        }
+        if (options.jettyHeaderResponseSize() > 0) {
+            serverOptions.jettyHeaderResponseSize(options.jettyHeaderResponseSize());
+        }
+        serverOptions.http2PlainDisabled(options.http2PlainDisabled());
+        if (options.virtualThreads()) {
+            final var threadPoolFactory = serverOptions.threadPoolFactory();
+            serverOptions.threadPoolFactory(jettyOptions -> VirtualThreadPools.useVirtualThreads(
+                    threadPoolFactory.buildThreadPool(jettyOptions)
+            ));
+        }
+    }
+
+    private static void applyRequestJournalSettings(final ConfigureWireMock options,
+                                                    final WireMockConfiguration serverOptions) {
+        if (options.requestJournalDisabled()) {
+            serverOptions.disableRequestJournal();
+            return;
+        }
+        final var maxRequestJournalEntries = firstPositive(
+                options.maxRequestJournalEntries(), options.profile().maxRequestJournalEntries()
+        );
+        if (maxRequestJournalEntries > 0) {
+            serverOptions.maxRequestJournalEntries(maxRequestJournalEntries);
+        }
+    }
+
+    private static int firstPositive(final int value, final int fallback) {
+        return value > 0 ? value : fallback;
+    }
+
     private static void applyCustomizers(final ConfigureWireMock options, final WireMockConfiguration serverOptions) {
         for (final var customizer : options.configurationCustomizers()) {
             MethodHandleUtils.getCustomizer(customizer).customize(serverOptions, options);
         }
     }
 
+    private static void cacheStubMappings(final WireMockConfiguration serverOptions) {
+        if (serverOptions.getMappingsSource().getClass() != JsonFileMappingsSource.class) {
+            return;  // A customizer provided its own mappings source.
+        }
+        serverOptions.mappingSource(
+                new CachingMappingsSource(serverOptions.filesRoot().child("mappings"), serverOptions.getFilenameMaker())
+        );
+    }
+
+    private static void applyStores(final ConfigureWireMock options, final WireMockConfiguration serverOptions) {
+        if (serverOptions.getStores().getClass() != DefaultStores.class) {
+            return;  // A customizer provided its own stores.
+        }
+        serverOptions.withStores(new ServerStores(serverOptions.filesRoot(), options));
+    }
+
     private static ExtensionFactory[] getExtensionFactories(final ConfigureWireMock options) {
         final var extensionFactories = new ArrayList<ExtensionFactory>();
         for (final var extensionFactory : options.extensionFactories()) {
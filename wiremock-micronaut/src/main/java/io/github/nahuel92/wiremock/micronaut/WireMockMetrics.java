@@ -0,0 +1,112 @@
+package io.github.nahuel92.wiremock.micronaut;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Metrics recorded by a WireMock server configured with {@link ConfigureWireMock#metrics()}: requests served, hits
+ * per stub, near misses per stub for unmatched requests, time spent matching requests against stubs and time spent
+ * serving responses. Can be injected with {@link InjectWireMock}:
+ * <pre>{@code
+ * @InjectWireMock("user-service")
+ * private WireMockMetrics metrics;
+ * }</pre>
+ */
+public final class WireMockMetrics {
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder unmatchedRequests = new LongAdder();
+    private final Map<UUID, LongAdder> stubHits = new ConcurrentHashMap<>();
+    private final Map<UUID, LongAdder> nearMisses = new ConcurrentHashMap<>();
+    private final LatencyHistogram matchingTime = new LatencyHistogram();
+    private final LatencyHistogram responseTime = new LatencyHistogram();
+
+    WireMockMetrics() {
+    }
+
+    void recordMatch(final UUID stubId, final long matchingNanos) {
+        requests.increment();
+        matchingTime.record(matchingNanos);
+        if (stubId == null) {
+            unmatchedRequests.increment();
+            return;
+        }
+        stubHits.computeIfAbsent(stubId, id -> new LongAdder()).increment();
+    }
+
+    void recordNearMiss(final UUID stubId) {
+        nearMisses.computeIfAbsent(stubId, id -> new LongAdder()).increment();
+    }
+
+    void recordResponse(final long responseNanos) {
+        responseTime.record(responseNanos);
+    }
+
+    /**
+     * @return the number of requests received
+     */
+    public long requests() {
+        return requests.sum();
+    }
+
+    /**
+     * @return the number of requests that didn't match any stub
+     */
+    public long unmatchedRequests() {
+        return unmatchedRequests.sum();
+    }
+
+    /**
+     * @return the number of requests matched by each stub, keyed by stub ID
+     */
+    public Map<UUID, Long> stubHits() {
+        return snapshotOf(stubHits);
+    }
+
+    /**
+     * @return the number of unmatched requests for which each stub was the closest match, keyed by stub ID
+     */
+    public Map<UUID, Long> nearMisses() {
+        return snapshotOf(nearMisses);
+    }
+
+    /**
+     * @return the time spent matching requests against stubs
+     */
+    public LatencyHistogram matchingTime() {
+        return matchingTime;
+    }
+
+    /**
+     * @return the time spent from the end of the matching until the response was fully sent, including delays
+     */
+    public LatencyHistogram responseTime() {
+        return responseTime;
+    }
+
+    /**
+     * Discards every recorded metric.
+     */
+    public void reset() {
+        requests.reset();
+        unmatchedRequests.reset();
+        stubHits.clear();
+        nearMisses.clear();
+        matchingTime.reset();
+        responseTime.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "WireMockMetrics[requests=" + requests() + ", unmatchedRequests=" + unmatchedRequests() +
+                ", matchingTime=" + matchingTime + ", responseTime=" + responseTime + "]";
+    }
+
+    private static Map<UUID, Long> snapshotOf(final Map<UUID, LongAdder> counters) {
+        final var snapshot = new HashMap<UUID, Long>();
+        counters.forEach((stubId, counter) -> snapshot.put(stubId, counter.sum()));
+        return Map.copyOf(snapshot);
+    }
+}
@@ -2,11 +2,15 @@ package io.github.nahuel92.wiremock.micronaut;
 
 import com.github.tomakehurst.wiremock.WireMockServer;
 import com.github.tomakehurst.wiremock.client.WireMock;
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
 import com.google.common.base.Preconditions;
 import io.micronaut.context.env.MapPropertySource;
+import io.micronaut.core.reflect.ClassUtils;
 import io.micronaut.test.annotation.MicronautTestValue;
+import io.micronaut.test.condition.TestActiveCondition;
 import io.micronaut.test.extensions.junit5.MicronautJunit5Extension;
 import io.micronaut.test.extensions.junit5.annotation.MicronautTest;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.ParameterContext;
 import org.junit.platform.commons.support.AnnotationSupport;
@@ -15,22 +19,32 @@ import org.slf4j.LoggerFactory;
 import org.wiremock.grpc.Jetty12GrpcExtensionFactory;
 import org.wiremock.grpc.dsl.WireMockGrpcService;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 
 /**
  * JUnit 5 extension that sets {@link WireMockServer} instances previously registered with {@link ConfigureWireMock}
  * on test class fields.
  */
 class WireMockMicronautExtension extends MicronautJunit5Extension {
-    private static final String INVALID_USAGE = "@InjectWireMock only works with [WireMockServer|WireMockGrpcService] types!";
     private static final String NULL_WIREMOCK = "WireMock server/gRPC service with name '%s' not registered. " +
             "Perhaps you forgot to configure it first with @ConfigureWireMock?";
+    private static final String NULL_METRICS = "WireMock server with name '%s' doesn't record metrics. " +
+            "Perhaps you forgot to enable them with @ConfigureWireMock(metrics = true)?";
     private static final Logger LOGGER = LoggerFactory.getLogger(WireMockMicronautExtension.class);
-    private static final Set<Class<?>> SUPPORTED_TYPES = Set.of(WireMockServer.class, WireMockGrpcService.class);
+    private static final String PROPERTY_SOURCE_NAME = "wireMockExtensionSource";
+    private static final String ACTIVE_TEST_CLASS_SOURCE_NAME = "wireMockActiveTestClassSource";
+    private static final boolean MICROMETER_AVAILABLE = ClassUtils.isPresent(
+            "io.micrometer.core.instrument.MeterRegistry", WireMockMicronautExtension.class.getClassLoader()
+    );
     private final InternalStore internalStore = new InternalStore();
+    private ExtensionContext cacheableClassContext;
+    private PhaseTimings timings;
 
     WireMockMicronautExtension() {
     }
@@ -39,14 +53,16 @@ class WireMockMicronautExtension extends MicronautJunit5Extension {
     public Object resolveParameter(final ParameterContext parameterContext, final ExtensionContext extensionContext) {
         final var annotation = parameterContext.findAnnotation(InjectWireMock.class);
         if (annotation.isPresent()) {
-            return internalStore.getServerMap(extensionContext).get(annotation.get().value());
+            return resolveWireMockInstance(
+                    extensionContext, parameterContext.getParameter().getType(), annotation.get().value()
+            );
         }
         return super.resolveParameter(parameterContext, extensionContext);
     }
 
     @Override
     public boolean supportsParameter(final ParameterContext parameterContext, final ExtensionContext extensionContext) {
-        return (SUPPORTED_TYPES.contains(parameterContext.getParameter().getType()) &&
+        return (InjectionPlan.SUPPORTED_TYPES.contains(parameterContext.getParameter().getType()) &&
                 parameterContext.isAnnotated(InjectWireMock.class))
                 || super.supportsParameter(parameterContext, extensionContext);
     }
@@ -63,17 +79,106 @@ class WireMockMicronautExtension extends MicronautJunit5Extension {
 
     @Override
     public void beforeAll(final ExtensionContext extensionContext) throws Exception {
-        super.beforeAll(extensionContext);
+        timings = new PhaseTimings(extensionContext.getRequiredTestClass());
+        cacheableClassContext = isContextCacheable(extensionContext.getRequiredTestClass()) ? extensionContext : null;
+        try {
+            super.beforeAll(extensionContext);
+        } finally {
+            cacheableClassContext = null;
+        }
         configureWireMockServers(extensionContext);
+        timings.publish(extensionContext);
     }
 
     @Override
     public void beforeEach(final ExtensionContext extensionContext) throws Exception {
         super.beforeEach(extensionContext);
-        for (final var wireMockServer : internalStore.getServerMap(extensionContext).values()) {
-            wireMockServer.resetAll();
+        if (testAnnotationValue.rebuildContext()) {
+            configureWireMockServers(extensionContext);  // The rebuilt context has neither servers nor properties.
+        }
+        timings.time("reset", () -> {
+            for (final var resetter : internalStore.getResetterMap(extensionContext).values()) {
+                resetter.reset();
+            }
+        });
+        timings.time("injection", () -> injectWireMockInstances(extensionContext));
+        configureDefaultClient(extensionContext);
+        timings.publish(extensionContext);
+    }
+
+    @Override
+    public void afterEach(final ExtensionContext extensionContext) throws Exception {
+        super.afterEach(extensionContext);
+        publishRequestJournalSizes(extensionContext);
+        timings.publish(extensionContext);  // Servers started lazily during the test.
+    }
+
+    /**
+     * Reuses a cached application context, if any, for test classes with
+     * {@link MicronautWireMockTest#cacheContext()} enabled. Otherwise, the context built by the superclass is started
+     * and, when cacheable, cached for the next test classes with the same configuration.
+     */
+    @Override
+    protected void startApplicationContext() {
+        timings.time("context-startup", this::startOrReuseApplicationContext);
+    }
+
+    private void startOrReuseApplicationContext() {
+        if (cacheableClassContext == null) {
+            super.startApplicationContext();
+            return;
+        }
+        final var testClass = cacheableClassContext.getRequiredTestClass();
+        final var key = ApplicationContextCache.keyOf(testClass, testProperties);
+        if (key.isEmpty()) {
+            super.startApplicationContext();
+            return;
         }
-        injectWireMockInstances(extensionContext);
+        final var contextCache = ApplicationContextCache.get(cacheableClassContext);
+        final var cachedContext = contextCache.acquire(key.get());
+        if (cachedContext == null) {
+            super.startApplicationContext();
+            contextCache.put(key.get(), applicationContext);
+            return;
+        }
+        applicationContext = cachedContext;  // The context just built by the superclass was never started.
+        activateTestClass(testClass);
+        super.startApplicationContext();  // Starting a running context is a no-op, this only collects test listeners.
+    }
+
+    @Override
+    protected void afterClass(final ExtensionContext extensionContext) {
+        if (ApplicationContextCache.get(extensionContext).release(applicationContext, embeddedApplication)) {
+            return;  // Kept running for the next test classes with the same configuration.
+        }
+        super.afterClass(extensionContext);
+    }
+
+    private boolean isContextCacheable(final Class<?> testClass) {
+        if (AnnotationSupport.isAnnotated(testClass, Nested.class) &&
+                AnnotationSupport.isAnnotated(testClass.getEnclosingClass(), MicronautWireMockTest.class)) {
+            return false;  // Shares the extension, and so the application context, with the enclosing test class.
+        }
+        return AnnotationSupport.findAnnotation(testClass, MicronautWireMockTest.class)
+                .map(annotation -> annotation.cacheContext() && !annotation.rebuildContext())
+                .orElse(false);
+    }
+
+    /**
+     * Test classes are beans only active while they're the active test class, so a cached context must switch it
+     * before the test class gets injected.
+     */
+    @SuppressWarnings("resource")  // "addPropertySource" returns an autocloseable which shouldn't be closed here.
+    private void activateTestClass(final Class<?> testClass) {
+        final var environment = applicationContext.getEnvironment();
+        environment.getPropertySources()
+                .stream()
+                .filter(propertySource -> ACTIVE_TEST_CLASS_SOURCE_NAME.equals(propertySource.getName()))
+                .toList()
+                .forEach(environment::removePropertySource);
+        environment.addPropertySource(MapPropertySource.of(
+                ACTIVE_TEST_CLASS_SOURCE_NAME, Map.of(TestActiveCondition.ACTIVE_SPEC_CLAZZ, testClass)
+        ));
     }
 
     @Override
@@ -103,42 +208,174 @@ class WireMockMicronautExtension extends MicronautJunit5Extension {
         final var micronautWiremockTests = extensionContext.getRequiredTestClass()
                 .getAnnotationsByType(MicronautWireMockTest.class);
         for (final var each : micronautWiremockTests) {
+            getOrCreateServers(extensionContext, List.of(each.value()));
+        }
+        configureDefaultClient(extensionContext);
+    }
+
+    /**
+     * Points the static WireMock DSL to the server of test classes configuring a single one. The DSL client is bound
+     * to the current thread, so this is done on the thread running the test too, as it may not be the one that ran
+     * {@code beforeAll} when test classes are executed in parallel.
+     */
+    private void configureDefaultClient(final ExtensionContext extensionContext) {
+        for (final var each : extensionContext.getRequiredTestClass().getAnnotationsByType(MicronautWireMockTest.class)) {
             if (each.value().length == 1) {
-                final var wireMockServer = getOrCreateServer(extensionContext, each.value()[0]);
-                WireMock.configureFor(wireMockServer.port());
+                WireMock.configureFor(getPort(extensionContext, each.value()[0].name()));
+            }
+        }
+    }
+
+    private void getOrCreateServers(final ExtensionContext extensionContext, final List<ConfigureWireMock> options) {
+        final var serverMap = internalStore.getServerMap(extensionContext);
+        final var lazyServerMap = internalStore.getLazyServerMap(extensionContext);
+        final var pendingOptions = new ArrayList<ConfigureWireMock>();
+        final var lazyOptions = new ArrayList<ConfigureWireMock>();
+        for (final var each : options) {
+            final var server = serverMap.get(each.name());
+            if ((server != null && server.isRunning()) || lazyServerMap.containsKey(each.name())) {
+                LOGGER.info("WireMockServer with name '{}' is already configured", each.name());
                 continue;
             }
-            for (final var options : each.value()) {
-                getOrCreateServer(extensionContext, options);
+            if (each.lazy() && !each.pooled()) {
+                lazyOptions.add(each);
+                continue;
+            }
+            pendingOptions.add(each);
+        }
+        final var serverPool = WireMockServerPool.get(extensionContext);
+        final var standbyPool = StandbyServerPool.get(extensionContext);
+        final Function<ConfigureWireMock, WireMockServer> serverFactory = each -> {
+            final var standbyServer = standbyPool.take(each);
+            return standbyServer != null ? standbyServer : getStartedServer(each);
+        };
+        final var newServers = timings.time("servers-startup", null, () -> ParallelServerStarter.startAll(
+                pendingOptions,
+                each -> each.pooled() ? serverPool.lease(each, serverFactory) : serverFactory.apply(each),
+                (each, server) -> {
+                    if (each.pooled()) {
+                        serverPool.releaseAction(each, server).run();
+                    } else {
+                        server.stop();
+                    }
+                }
+        ));
+        final var newProperties = new HashMap<String, Object>();
+        for (int i = 0; i < pendingOptions.size(); i++) {
+            final var server = newServers.get(i);
+            final var serverOptions = pendingOptions.get(i);
+            registerServer(extensionContext, server, serverOptions);
+            final Runnable stopAction = serverOptions.pooled()
+                    ? serverPool.releaseAction(serverOptions, server)
+                    : server::stop;
+            applicationContext.registerSingleton(
+                    ShutdownServerEvent.class, new ShutdownServerEvent(stopAction, serverOptions)
+            );
+            if (serverOptions.pooled() && !ApplicationContextCache.get(extensionContext).contains(applicationContext)) {
+                // Contexts of nested test classes aren't shut down, so pooled servers are released with the class.
+                getStore(extensionContext).put(
+                        "wiremock-pool-lease-" + serverOptions.name() + applicationContext,
+                        (ExtensionContext.Store.CloseableResource) stopAction::run
+                );
             }
+            bindMetrics(serverOptions, server);
+            collectProperties(server.baseUrl(), server.port(), serverOptions, newProperties);
+        }
+        for (final var each : lazyOptions) {
+            final var lazyServer = reserveLazyServer(extensionContext, each);
+            collectProperties(lazyServer.baseUrl(), lazyServer.port(), each, newProperties);
         }
+        timings.time("properties", () -> addPropertiesToMicronautContext(extensionContext, newProperties));
     }
 
-    private WireMockServer getOrCreateServer(final ExtensionContext extensionContext, final ConfigureWireMock options) {
-        final var server = internalStore.getServerMap(extensionContext).get(options.name());
-        if (server != null && server.isRunning()) {
-            LOGGER.info("WireMockServer with name '{}' is already configured", options.name());
-            return server;
+    private void registerServer(final ExtensionContext extensionContext, final WireMockServer server,
+                                final ConfigureWireMock options) {
+        internalStore.put(extensionContext, options.name(), server);
+        internalStore.put(extensionContext, options.name(), ServerResetter.of(server, options));
+        if (isGrpcTest(options)) {
+            final var newGrpcService = new WireMockGrpcService(new WireMock(server.port()), options.name());
+            internalStore.put(extensionContext, options.name(), newGrpcService);
         }
-        final var newServer = getStartedServer(options);
-        internalStore.put(extensionContext, options.name(), newServer);
-        applicationContext.registerSingleton(ShutdownServerEvent.class, new ShutdownServerEvent(newServer, options));
-        addPropertiesToMicronautContext(newServer, options);
+    }
+
+    private LazyWireMockServer reserveLazyServer(final ExtensionContext extensionContext,
+                                                 final ConfigureWireMock options) {
+        final var configuration = WireMockConfigurationMapper.from(options);
+        final var serverMap = internalStore.getServerMap(extensionContext);
+        final var resetterMap = internalStore.getResetterMap(extensionContext);
+        final var lazyServer = LazyWireMockServer.reserve(
+                options.name(),
+                configuration.portNumber(),
+                port -> createServer(options, configuration.port(port)),
+                server -> startServer(options, server),
+                server -> {
+                    serverMap.put(options.name(), server);
+                    resetterMap.put(options.name(), ServerResetter.of(server, options).takeSnapshot());
+                    bindMetrics(options, server);
+                }
+        );
+        internalStore.put(extensionContext, options.name(), lazyServer);
+        applicationContext.registerSingleton(
+                ShutdownServerEvent.class, new ShutdownServerEvent(lazyServer::stop, options)
+        );
         if (isGrpcTest(options)) {
-            final var newGrpcService = new WireMockGrpcService(new WireMock(newServer.port()), options.name());
+            final var newGrpcService = new WireMockGrpcService(new WireMock(lazyServer.port()), options.name());
             internalStore.put(extensionContext, options.name(), newGrpcService);
         }
-        return newServer;
+        return lazyServer;
+    }
+
+    /**
+     * Publishes the metrics of the given server to the Micrometer registry of the application context, if
+     * Micrometer is on the classpath and a registry is available.
+     */
+    private void bindMetrics(final ConfigureWireMock options, final WireMockServer server) {
+        if (options.metrics() && MICROMETER_AVAILABLE) {
+            MicrometerMetricsBinder.bind(applicationContext, options.name(), ServerMetricsExtension.metricsOf(server));
+        }
     }
 
     private WireMockServer getStartedServer(final ConfigureWireMock options) {
-        LOGGER.info("Configuring WireMockServer with name '{}' on port: '{}'", options.name(), options.port());
-        final var newServer = new WireMockServer(WireMockConfigurationMapper.from(options));
-        newServer.start();
-        LOGGER.info("Started WireMockServer with name '{}' with base URL: '{}'", options.name(), newServer.baseUrl());
+        return getStartedServer(options, WireMockConfigurationMapper.from(options));
+    }
+
+    private WireMockServer getStartedServer(final ConfigureWireMock options, final WireMockConfiguration configuration) {
+        final var newServer = createServer(options, configuration);
+        startServer(options, newServer);
         return newServer;
     }
 
+    // Stub files are loaded when the server is created, and Jetty is booted when it's started.
+    private WireMockServer createServer(final ConfigureWireMock options, final WireMockConfiguration configuration) {
+        LOGGER.info("Configuring WireMockServer with name '{}' on port: '{}'", options.name(), configuration.portNumber());
+        return timings.time("create", options.name(), () -> new WireMockServer(configuration));
+    }
+
+    private void startServer(final ConfigureWireMock options, final WireMockServer newServer) {
+        timings.time("start", options.name(), () -> {
+            newServer.start();
+            return newServer;
+        });
+        LOGGER.info("Started WireMockServer with name '{}' with base URL: '{}'", options.name(), newServer.baseUrl());
+    }
+
+    /**
+     * Returns the server with the given name, starting it first if it was configured as lazy.
+     */
+    private WireMockServer getServer(final ExtensionContext extensionContext, final String name) {
+        final var server = internalStore.getServerMap(extensionContext).get(name);
+        if (server != null) {
+            return server;
+        }
+        final var lazyServer = internalStore.getLazyServerMap(extensionContext).get(name);
+        return lazyServer != null ? lazyServer.get() : null;
+    }
+
+    private int getPort(final ExtensionContext extensionContext, final String name) {
+        final var lazyServer = internalStore.getLazyServerMap(extensionContext).get(name);
+        return lazyServer != null ? lazyServer.port() : internalStore.getServerMap(extensionContext).get(name).port();
+    }
+
     private boolean isGrpcTest(final ConfigureWireMock options) {
         for (final var extensionFactory : options.extensionFactories()) {
             if (extensionFactory.equals(Jetty12GrpcExtensionFactory.class)) {
@@ -148,19 +385,37 @@ class WireMockMicronautExtension extends MicronautJunit5Extension {
         return false;
     }
 
-    @SuppressWarnings("resource")  // "addPropertySource" returns an autocloseable which shouldn't be closed here.
-    private void addPropertiesToMicronautContext(final WireMockServer server, final ConfigureWireMock options) {
-        final var properties = new HashMap<String, Object>();
-        properties.put(options.portProperty(), server.port());
-        final var serverUrl = getServerUrl(server.baseUrl(), options);
+    private void collectProperties(final String baseUrl, final int port, final ConfigureWireMock options,
+                                   final Map<String, Object> properties) {
+        properties.put(options.portProperty(), port);
+        final var serverUrl = getServerUrl(baseUrl, options);
         for (final var name : options.properties()) {
             if (StringUtils.isNotBlank(name)) {
                 properties.put(name, serverUrl);
             }
         }
-        LOGGER.debug("Adding properties '{}' to Micronaut application context", properties);
-        final var customSource = MapPropertySource.of("wireMockExtensionSource", properties);
-        applicationContext.getEnvironment().addPropertySource(customSource);
+    }
+
+    /**
+     * Publishes the properties of every server bound to the current application context as a single property source,
+     * replacing the one published previously (if any), so the environment is re-processed once per change.
+     */
+    @SuppressWarnings("resource")  // "addPropertySource" returns an autocloseable which shouldn't be closed here.
+    private void addPropertiesToMicronautContext(final ExtensionContext extensionContext,
+                                                 final Map<String, Object> newProperties) {
+        if (newProperties.isEmpty()) {
+            return;
+        }
+        final var properties = internalStore.getPropertyMap(extensionContext);
+        properties.putAll(newProperties);
+        LOGGER.debug("Adding properties '{}' to Micronaut application context", newProperties);
+        final var environment = applicationContext.getEnvironment();
+        environment.getPropertySources()
+                .stream()
+                .filter(propertySource -> PROPERTY_SOURCE_NAME.equals(propertySource.getName()))
+                .toList()
+                .forEach(environment::removePropertySource);
+        environment.addPropertySource(MapPropertySource.of(PROPERTY_SOURCE_NAME, Map.copyOf(properties)));
     }
 
     private String getServerUrl(final String baseUrl, final ConfigureWireMock options) {
@@ -170,24 +425,46 @@ class WireMockMicronautExtension extends MicronautJunit5Extension {
         return baseUrl;
     }
 
-    private void injectWireMockInstances(final ExtensionContext extensionContext) throws IllegalAccessException {
-        final var serverMap = internalStore.getServerMap(extensionContext);
-        final var grpcServicesMap = internalStore.getGrpcServicesMap(extensionContext);
+    private void injectWireMockInstances(final ExtensionContext extensionContext) {
+        final BiFunction<Class<?>, String, Object> resolver = (type, serverName) ->
+                resolveWireMockInstance(extensionContext, type, serverName);
         for (final var testInstance : extensionContext.getRequiredTestInstances().getAllInstances()) {
-            final var annotatedFields = AnnotationSupport.findAnnotatedFields(testInstance.getClass(), InjectWireMock.class);
-            for (final var annotatedField : annotatedFields) {
-                if (!SUPPORTED_TYPES.contains(annotatedField.getType())) {
-                    throw new IllegalStateException(INVALID_USAGE);
-                }
-                annotatedField.setAccessible(true);
-                final var serverName = annotatedField.getAnnotation(InjectWireMock.class).value();
-                if (WireMockGrpcService.class.isAssignableFrom(annotatedField.getType())) {
-                    annotatedField.set(testInstance, requireNotNull(grpcServicesMap.get(serverName), serverName));
-                    continue;
-                }
-                annotatedField.set(testInstance, requireNotNull(serverMap.get(serverName), serverName));
-            }
+            InjectionPlan.of(testInstance.getClass()).inject(testInstance, resolver);
+        }
+    }
+
+    private Object resolveWireMockInstance(final ExtensionContext extensionContext, final Class<?> type,
+                                           final String serverName) {
+        final var server = getServer(extensionContext, serverName);
+        if (WireMockGrpcService.class.isAssignableFrom(type)) {
+            return requireNotNull(internalStore.getGrpcServicesMap(extensionContext).get(serverName), serverName);
         }
+        if (WireMockMetrics.class.isAssignableFrom(type)) {
+            final var metrics = ServerMetricsExtension.metricsOf((WireMockServer) requireNotNull(server, serverName));
+            Preconditions.checkState(metrics != null, NULL_METRICS, serverName);
+            return metrics;
+        }
+        if (LoadDriver.class.isAssignableFrom(type)) {
+            return new LoadDriver((WireMockServer) requireNotNull(server, serverName));
+        }
+        return requireNotNull(server, serverName);
+    }
+
+    /**
+     * Publishes the number of requests kept in the journal of each running server as a JUnit report entry, so
+     * journal growth can be tracked throughout the suite. Published after each test rather than once per class, since
+     * most reset policies clear the journal before each test. Only the keys of the journal store are counted, so
+     * serve events are neither copied nor matched.
+     */
+    private void publishRequestJournalSizes(final ExtensionContext extensionContext) {
+        internalStore.getServerMap(extensionContext).forEach((name, server) -> {
+            if (server.isRunning() && !server.getOptions().requestJournalDisabled()) {
+                extensionContext.publishReportEntry(
+                        "wiremock." + name + ".request-journal-size",
+                        String.valueOf(server.getOptions().getStores().getRequestJournalStore().getAllKeys().count())
+                );
+            }
+        });
     }
 
     private Object requireNotNull(final Object wireMock, final String serverName) {
@@ -204,6 +481,14 @@ class WireMockMicronautExtension extends MicronautJunit5Extension {
             getGrpcServicesMap(extensionContext).put(key, service);
         }
 
+        private void put(final ExtensionContext extensionContext, final String key, final LazyWireMockServer server) {
+            getLazyServerMap(extensionContext).put(key, server);
+        }
+
+        private void put(final ExtensionContext extensionContext, final String key, final ServerResetter resetter) {
+            getResetterMap(extensionContext).put(key, resetter);
+        }
+
         private Map<String, WireMockServer> getServerMap(final ExtensionContext extensionContext) {
             return getMap(extensionContext, "wiremock-server-");
         }
@@ -212,8 +497,25 @@ class WireMockMicronautExtension extends MicronautJunit5Extension {
             return getMap(extensionContext, "wiremock-grpc-service-");
         }
 
+        private Map<String, LazyWireMockServer> getLazyServerMap(final ExtensionContext extensionContext) {
+            return getMap(extensionContext, "wiremock-lazy-server-");
+        }
+
+        private Map<String, ServerResetter> getResetterMap(final ExtensionContext extensionContext) {
+            return getMap(extensionContext, "wiremock-resetter-");
+        }
+
+        private Map<String, Object> getPropertyMap(final ExtensionContext extensionContext) {
+            return getMap(extensionContext, "wiremock-properties-");
+        }
+
         @SuppressWarnings("unchecked")  // "get" doesn't support generics usage
         private <K, V> Map<K, V> getMap(final ExtensionContext extensionContext, final K key) {
+            final Map<K, V> cachedContextMap = ApplicationContextCache.get(extensionContext)
+                    .getMap(applicationContext, key.toString());
+            if (cachedContextMap != null) {
+                return cachedContextMap;  // Servers of a cached context outlive the test class that started them.
+            }
             return getStore(extensionContext)
                     .getOrComputeIfAbsent(
                             key.toString() + applicationContext,
@@ -0,0 +1,80 @@
+package io.github.nahuel92.wiremock.micronaut;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+
+/**
+ * JVM-wide pool of {@link WireMockServer} instances configured with {@link ConfigureWireMock#pooled()}. The pool lives
+ * in the JUnit root context store, so servers are stopped only once the whole test run is over.
+ * A server is leased to a single application context at a time, so test classes running in parallel with equal
+ * configurations get different servers.
+ */
+class WireMockServerPool implements ExtensionContext.Store.CloseableResource {
+    private static final Logger LOGGER = LoggerFactory.getLogger(WireMockServerPool.class);
+    private static final ExtensionContext.Namespace NAMESPACE = ExtensionContext.Namespace.create(WireMockServerPool.class);
+    private final Map<ServerFingerprint, Queue<WireMockServer>> idleServers = new ConcurrentHashMap<>();
+    private final Map<WireMockServer, ServerFingerprint> servers = new ConcurrentHashMap<>();
+
+    static WireMockServerPool get(final ExtensionContext extensionContext) {
+        return extensionContext.getRoot()
+                .getStore(NAMESPACE)
+                .getOrComputeIfAbsent(WireMockServerPool.class, key -> new WireMockServerPool(), WireMockServerPool.class);
+    }
+
+    /**
+     * Returns an idle running server matching the given configuration, creating one with {@code serverFactory} if
+     * there's none. Idle servers are reset, along with their metrics, before being handed out.
+     */
+    WireMockServer lease(final ConfigureWireMock options, final Function<ConfigureWireMock, WireMockServer> serverFactory) {
+        final var fingerprint = ServerFingerprint.of(options);
+        final var idle = idleServers.computeIfAbsent(fingerprint, key -> new ConcurrentLinkedQueue<>());
+        for (var server = idle.poll(); server != null; server = idle.poll()) {
+            if (server.isRunning()) {
+                LOGGER.info("Leasing pooled WireMockServer with name '{}' on port: '{}'", options.name(), server.port());
+                server.resetAll();
+                final var metrics = ServerMetricsExtension.metricsOf(server);
+                if (metrics != null) {
+                    metrics.reset();  // Don't carry over what the previous test class recorded.
+                }
+                return server;
+            }
+            servers.remove(server);
+        }
+        final var server = serverFactory.apply(options);
+        servers.put(server, fingerprint);
+        return server;
+    }
+
+    /**
+     * Returns an action giving a leased server back to the pool, making it available to the next test class with an
+     * equal configuration. The action can be safely run more than once.
+     */
+    Runnable releaseAction(final ConfigureWireMock options, final WireMockServer server) {
+        final var released = new AtomicBoolean();
+        return () -> {
+            if (released.compareAndSet(false, true)) {
+                idleServers.computeIfAbsent(ServerFingerprint.of(options), key -> new ConcurrentLinkedQueue<>())
+                        .offer(server);
+            }
+        };
+    }
+
+    @Override
+    public void close() {
+        servers.forEach((server, fingerprint) -> {
+            LOGGER.info("Stopping pooled WireMockServer with name '{}'", fingerprint.name());
+            server.stop();
+        });
+        servers.clear();
+        idleServers.clear();
+    }
+}
@@ -0,0 +1,182 @@
+package io.github.nahuel92.wiremock.micronaut;
+
+import com.github.tomakehurst.wiremock.common.BinaryFile;
+import com.github.tomakehurst.wiremock.common.InputStreamSource;
+import com.github.tomakehurst.wiremock.common.SingleRootFileSource;
+import com.github.tomakehurst.wiremock.store.BlobStore;
+import com.github.tomakehurst.wiremock.store.FileSourceBlobStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachingFilesBlobStoreTest {
+    @TempDir
+    private Path root;
+
+    private CachingFilesBlobStore blobStore;
+
+    @BeforeEach
+    void setUp() {
+        final var fileSource = new SingleRootFileSource(root.toFile());
+        blobStore = new CachingFilesBlobStore(new FileSourceBlobStore(fileSource), fileSource);
+    }
+
+    @Test
+    @DisplayName("Body files should be served from the cache, and read again once they change")
+    void successOnCachingSmallBodyFiles() throws IOException {
+        // given
+        final var bodyFile = Files.writeString(root.resolve("user.json"), "{ \"id\": 1 }");
+
+        // when
+        final var first = readStream("user.json");
+        final var second = readStream("user.json");
+        Files.writeString(bodyFile, "{ \"id\": 2, \"name\": \"Jenna\" }");
+        final var changed = readStream("user.json");
+
+        // then
+        assertThat(new String(first, StandardCharsets.UTF_8)).isEqualTo("{ \"id\": 1 }");
+        assertThat(second).isEqualTo(first);
+        assertThat(new String(changed, StandardCharsets.UTF_8)).isEqualTo("{ \"id\": 2, \"name\": \"Jenna\" }");
+    }
+
+    @Test
+    @DisplayName("Large body files should be served from memory-mapped buffers")
+    void successOnMappingLargeBodyFiles() throws IOException {
+        // given
+        final var content = new byte[CachingFilesBlobStore.MAPPED_FILE_THRESHOLD * 2];
+        Arrays.fill(content, (byte) 'x');
+        Files.write(root.resolve("large.bin"), content);
+
+        // expect
+        assertThat(readStream("large.bin")).isEqualTo(content);
+        assertThat(readStream("large.bin")).isEqualTo(content);
+        assertThat(blobStore.get("large.bin")).hasValueSatisfying(value -> assertThat(value).isEqualTo(content));
+    }
+
+    @Test
+    @DisplayName("Changed body files should replace their previous version in the cache")
+    void successOnReplacingChangedBodyFiles() throws IOException {
+        // given
+        final var bodyFile = Files.writeString(root.resolve("user.json"), "aaa");
+        final var lastModified = Files.getLastModifiedTime(bodyFile);
+        readStream("user.json");
+        Files.writeString(bodyFile, "bbbb");
+        readStream("user.json");
+
+        // when
+        Files.writeString(bodyFile, "ccc");
+        Files.setLastModifiedTime(bodyFile, lastModified);  // Same stamp as the first version.
+
+        // then
+        assertThat(new String(readStream("user.json"), StandardCharsets.UTF_8)).isEqualTo("ccc");
+    }
+
+    @Test
+    @DisplayName("Body files inside JARs should be read once, cached when small and streamed when large")
+    void successOnReadingBodyFilesInsideJarsOnce() throws IOException {
+        // given
+        final var large = new byte[CachingFilesBlobStore.MAPPED_FILE_THRESHOLD * 2];
+        Arrays.fill(large, (byte) 'x');
+        final var jar = root.resolve("bodies.jar");
+        try (final var output = new JarOutputStream(Files.newOutputStream(jar))) {
+            output.putNextEntry(new JarEntry("small.json"));
+            output.write("{ \"id\": 1 }".getBytes(StandardCharsets.UTF_8));
+            output.putNextEntry(new JarEntry("large.bin"));
+            output.write(large);
+        }
+        final var fileSource = new SingleRootFileSource(root.toFile()) {
+            @Override
+            public BinaryFile getBinaryFileNamed(final String name) {
+                return new BinaryFile(URI.create("jar:" + jar.toUri() + "!/" + name));
+            }
+        };
+        final var delegate = new CountingBlobStore(new FileSourceBlobStore(fileSource));
+        blobStore = new CachingFilesBlobStore(delegate, fileSource);
+
+        // when
+        final var small = readStream("small.json");
+        final var smallAgain = readStream("small.json");
+        final var largeRead = readStream("large.bin");
+
+        // then
+        assertThat(new String(small, StandardCharsets.UTF_8)).isEqualTo("{ \"id\": 1 }");
+        assertThat(smallAgain).isEqualTo(small);
+        assertThat(largeRead).isEqualTo(large);
+        assertThat(delegate.reads).containsExactly("small.json", "large.bin");
+    }
+
+    @Test
+    @DisplayName("Missing body files should not be cached")
+    void successOnIgnoringMissingBodyFiles() {
+        assertThat(blobStore.get("missing.json")).isEmpty();
+    }
+
+    private byte[] readStream(final String key) throws IOException {
+        try (final var stream = blobStore.getStreamSource(key).getStream()) {
+            return stream.readAllBytes();
+        }
+    }
+
+    private static class CountingBlobStore implements BlobStore {
+        private final BlobStore delegate;
+        private final List<String> reads = new ArrayList<>();
+
+        private CountingBlobStore(final BlobStore delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Optional<byte[]> get(final String key) {
+            reads.add(key);
+            return delegate.get(key);
+        }
+
+        @Override
+        public Optional<InputStream> getStream(final String key) {
+            reads.add(key);
+            return delegate.getStream(key);
+        }
+
+        @Override
+        public InputStreamSource getStreamSource(final String key) {
+            return () -> getStream(key).orElse(null);
+        }
+
+        @Override
+        public Stream<String> getAllKeys() {
+            return delegate.getAllKeys();
+        }
+
+        @Override
+        public void put(final String key, final byte[] content) {
+            delegate.put(key, content);
+        }
+
+        @Override
+        public void remove(final String key) {
+            delegate.remove(key);
+        }
+
+        @Override
+        public void clear() {
+            delegate.clear();
+        }
+    }
+}
@@ -0,0 +1,211 @@
+package io.github.nahuel92.wiremock.micronaut;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.common.SingleRootFileSource;
+import com.github.tomakehurst.wiremock.common.filemaker.FilenameMaker;
+import com.github.tomakehurst.wiremock.standalone.MappingFileException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CachingMappingsSourceTest {
+    @TempDir
+    private Path root;
+
+    private WireMockServer server;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Files.createDirectories(root.resolve("mappings"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (server != null) {
+            server.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Changed mapping files should be read again on reset")
+    void successOnReloadingChangedMappingFiles() throws IOException {
+        // given
+        final var mappingFile = writeMapping("user.json", mappingOf("/user"));
+        startServer();
+
+        // when
+        Files.writeString(mappingFile, mappingOf("/user/changed"));
+        server.resetToDefaultMappings();
+
+        // then
+        assertThat(server.getStubMappings()).singleElement().satisfies(stub ->
+                assertThat(stub.getRequest().getUrl()).isEqualTo("/user/changed")
+        );
+    }
+
+    @Test
+    @DisplayName("Added mapping files should be loaded on reset")
+    void successOnLoadingAddedMappingFiles() throws IOException {
+        // given
+        writeMapping("user.json", mappingOf("/user"));
+        startServer();
+
+        // when
+        writeMapping("order.json", mappingOf("/order"));
+        server.resetToDefaultMappings();
+
+        // then
+        assertThat(server.getStubMappings())
+                .extracting(stub -> stub.getRequest().getUrl())
+                .containsExactlyInAnyOrder("/user", "/order");
+    }
+
+    @Test
+    @DisplayName("Every load should hand out fresh stub mappings, so edits don't leak into the next reset")
+    void successOnHandingOutFreshStubMappings() throws IOException {
+        // given
+        writeMapping("user.json", mappingOf("/user"));
+        startServer();
+        final var loaded = server.getStubMappings().getFirst();
+
+        // when
+        server.resetToDefaultMappings();
+
+        // then
+        assertThat(server.getStubMappings()).singleElement().satisfies(stub -> {
+            assertThat(stub).isNotSameAs(loaded);
+            assertThat(stub.getRequest().getUrl()).isEqualTo("/user");
+        });
+    }
+
+    @Test
+    @DisplayName("Servers loading the same files should reuse the parsed mappings, each with its own stub instances")
+    void successOnReusingParsedStubMappingsAcrossServers() throws IOException {
+        // given
+        writeMapping("user.json", mappingOf("/user"));
+        startServer();
+        final var first = server.getStubMappings().getFirst();
+        final var secondServer = new WireMockServer(options()
+                .dynamicPort()
+                .withRootDirectory(root.toString())
+                .mappingSource(new CachingMappingsSource(
+                        new SingleRootFileSource(root.toFile()).child("mappings"), new FilenameMaker()
+                ))
+        );
+
+        try {
+            // when
+            secondServer.start();
+
+            // then
+            assertThat(secondServer.getStubMappings()).singleElement().satisfies(stub -> {
+                assertThat(stub).isNotSameAs(first);
+                assertThat(stub.getId()).isEqualTo(first.getId());
+                assertThat(stub.getRequest()).isSameAs(first.getRequest());
+                assertThat(stub.getResponse()).isSameAs(first.getResponse());
+            });
+        } finally {
+            secondServer.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Removing a persistent stub should delete the mapping file it was loaded from")
+    void successOnRemovingPersistentStubMappings() throws IOException {
+        // given
+        final var mappingFile = writeMapping("user.json", """
+                {
+                  "persistent": true,
+                  "request": { "method": "GET", "url": "/user" },
+                  "response": { "status": 200 }
+                }
+                """);
+        startServer();
+        final var loaded = server.getStubMappings().getFirst();
+
+        // when
+        server.removeStubMapping(loaded);
+
+        // then
+        assertThat(server.getStubMappings()).isEmpty();
+        assertThat(mappingFile).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("Malformed mapping files should fail naming the offending file")
+    void failureOnLoadingMalformedMappingFiles() throws IOException {
+        // given
+        writeMapping("broken.json", "{ \"request\": ");
+
+        // expect
+        assertThatThrownBy(this::startServer)
+                .isInstanceOf(MappingFileException.class)
+                .hasMessageContaining("broken.json");
+    }
+
+    @Test
+    @DisplayName("Mapping files inside a jar should be stamped with the attributes of the jar")
+    void successOnStampingMappingFilesInsideJars() throws IOException {
+        // given
+        final var jar = root.resolve("mappings.jar");
+        writeJar(jar, mappingOf("/user"));
+        final var uri = URI.create("jar:" + jar.toUri() + "!/mappings/mapping-0.json");
+        final var before = CachingMappingsSource.stampOf(uri);
+
+        // when
+        writeJar(jar, mappingOf("/user"), mappingOf("/order"));
+        final var after = CachingMappingsSource.stampOf(uri);
+
+        // then
+        assertThat(before.uri()).isEqualTo(uri);
+        assertThat(after.uri()).isEqualTo(uri);
+        assertThat(after.size()).isEqualTo(Files.size(jar)).isGreaterThan(before.size());
+    }
+
+    private void startServer() {
+        final var fileSource = new SingleRootFileSource(root.toFile());
+        server = new WireMockServer(options()
+                .dynamicPort()
+                .withRootDirectory(root.toString())
+                .mappingSource(new CachingMappingsSource(fileSource.child("mappings"), new FilenameMaker()))
+        );
+        server.start();
+    }
+
+    private Path writeMapping(final String name, final String contents) throws IOException {
+        return Files.writeString(root.resolve("mappings").resolve(name), contents);
+    }
+
+    private static String mappingOf(final String url) {
+        return """
+                {
+                  "request": { "method": "GET", "url": "%s" },
+                  "response": { "status": 200 }
+                }
+                """.formatted(url);
+    }
+
+    private static void writeJar(final Path jar, final String... mappings) throws IOException {
+        try (final var output = new JarOutputStream(Files.newOutputStream(jar))) {
+            for (int i = 0; i < mappings.length; i++) {
+                output.putNextEntry(new JarEntry("mappings/mapping-" + i + ".json"));
+                output.write(mappings[i].getBytes(StandardCharsets.UTF_8));
+                output.closeEntry();
+            }
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package io.github.nahuel92.wiremock.micronaut;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import io.micronaut.context.ApplicationContext;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.ClassOrderer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+
+class ContextCacheEvictionTest {
+    private static final AtomicReference<ApplicationContext> EVICTED_CONTEXT = new AtomicReference<>();
+    private static final AtomicReference<WireMockServer> EVICTED_SERVER = new AtomicReference<>();
+    private static final AtomicReference<ApplicationContext> FIRST_IN_USE_CONTEXT = new AtomicReference<>();
+    private static final AtomicReference<WireMockServer> FIRST_IN_USE_SERVER = new AtomicReference<>();
+    private static final AtomicReference<ApplicationContext> SECOND_IN_USE_CONTEXT = new AtomicReference<>();
+    private static final AtomicReference<WireMockServer> SECOND_IN_USE_SERVER = new AtomicReference<>();
+    private static final CyclicBarrier BARRIER = new CyclicBarrier(2);
+
+    @Test
+    @DisplayName("Full caches should stop the least recently used idle context along with its servers")
+    void successOnEvictingIdleContext() {
+        // when
+        final var results = EngineTests.engine()
+                .configurationParameter(ApplicationContextCache.MAX_SIZE_PARAMETER, "1")
+                .configurationParameter("junit.jupiter.testclass.order.default", ClassOrderer.OrderAnnotation.class.getName())
+                .selectors(selectClass(IdleContextTest.class), selectClass(EvictingContextTest.class))
+                .execute();
+
+        // then
+        results.testEvents().assertStatistics(stats -> stats.started(2).succeeded(2));
+        assertThat(EVICTED_CONTEXT.get().isRunning()).isFalse();
+        assertThat(EVICTED_SERVER.get().isRunning()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Full caches should never evict contexts still used by running test classes")
+    void successOnKeepingContextsInUse() {
+        // when
+        final var results = EngineTests.engine()
+                .configurationParameter(ApplicationContextCache.MAX_SIZE_PARAMETER, "1")
+                .configurationParameter("junit.jupiter.execution.parallel.enabled", "true")
+                .configurationParameter("junit.jupiter.execution.parallel.mode.classes.default", "concurrent")
+                .configurationParameter("junit.jupiter.execution.parallel.config.strategy", "fixed")
+                .configurationParameter("junit.jupiter.execution.parallel.config.fixed.parallelism", "2")
+                .selectors(selectClass(FirstContextInUseTest.class), selectClass(SecondContextInUseTest.class))
+                .execute();
+
+        // then
+        results.testEvents().assertStatistics(stats -> stats.started(2).succeeded(2));
+    }
+
+    @EngineTests.Only
+    @MicronautWireMockTest(
+            value = @ConfigureWireMock(name = "idle-service", properties = "idle-service.url"),
+            cacheContext = true
+    )
+    @Order(1)
+    static class IdleContextTest {
+        @InjectWireMock("idle-service")
+        private WireMockServer server;
+
+        @Inject
+        private ApplicationContext applicationContext;
+
+        @Test
+        void successOnCachingContext() {
+            EVICTED_CONTEXT.set(applicationContext);
+            EVICTED_SERVER.set(server);
+        }
+    }
+
+    @EngineTests.Only
+    @MicronautWireMockTest(
+            value = @ConfigureWireMock(name = "evicting-service", properties = "evicting-service.url"),
+            cacheContext = true
+    )
+    @Order(2)
+    static class EvictingContextTest {
+        @Inject
+        private ApplicationContext applicationContext;
+
+        @Test
+        void successOnEvictingIdleContext() {
+            assertThat(EVICTED_CONTEXT.get()).as("context cached by the previous test class").isNotNull();
+            assertThat(EVICTED_CONTEXT.get().isRunning()).isFalse();
+            assertThat(EVICTED_SERVER.get().isRunning()).isFalse();
+            assertThat(applicationContext.isRunning()).isTrue();
+        }
+    }
+
+    @EngineTests.Only
+    @MicronautWireMockTest(
+            value = @ConfigureWireMock(name = "first-in-use-service", properties = "first-in-use-service.url"),
+            cacheContext = true
+    )
+    static class FirstContextInUseTest {
+        @InjectWireMock("first-in-use-service")
+        private WireMockServer server;
+
+        @Inject
+        private ApplicationContext applicationContext;
+
+        @Test
+        void successOnKeepingOtherContext() throws Exception {
+            // given
+            FIRST_IN_USE_CONTEXT.set(applicationContext);
+            FIRST_IN_USE_SERVER.set(server);
+            BARRIER.await(30, TimeUnit.SECONDS);  // Both contexts are cached and in use.
+
+            // expect
+            assertThat(SECOND_IN_USE_CONTEXT.get().isRunning()).isTrue();
+            assertThat(SECOND_IN_USE_SERVER.get().isRunning()).isTrue();
+            BARRIER.await(30, TimeUnit.SECONDS);  // Neither context is released before the other test class checked it.
+        }
+    }
+
+    @EngineTests.Only
+    @MicronautWireMockTest(
+            value = @ConfigureWireMock(name = "second-in-use-service", properties = "second-in-use-service.url"),
+            cacheContext = true
+    )
+    static class SecondContextInUseTest {
+        @InjectWireMock("second-in-use-service")
+        private WireMockServer server;
+
+        @Inject
+        private ApplicationContext applicationContext;
+
+        @Test
+        void successOnKeepingOtherContext() throws Exception {
+            // given
+            SECOND_IN_USE_CONTEXT.set(applicationContext);
+            SECOND_IN_USE_SERVER.set(server);
+            BARRIER.await(30, TimeUnit.SECONDS);  // Both contexts are cached and in use.
+
+            // expect
+            assertThat(FIRST_IN_USE_CONTEXT.get().isRunning()).isTrue();
+            assertThat(FIRST_IN_USE_SERVER.get().isRunning()).isTrue();
+            BARRIER.await(30, TimeUnit.SECONDS);  // Neither context is released before the other test class checked it.
+        }
+    }
+}
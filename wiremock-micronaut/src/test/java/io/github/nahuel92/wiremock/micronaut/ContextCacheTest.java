@@ -0,0 +1,98 @@
+package io.github.nahuel92.wiremock.micronaut;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import io.micronaut.context.ApplicationContext;
+import io.micronaut.context.annotation.Property;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.ClassOrderer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestClassOrder;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@TestClassOrder(ClassOrderer.OrderAnnotation.class)
+public class ContextCacheTest {
+    private static final AtomicReference<ApplicationContext> FIRST_CONTEXT = new AtomicReference<>();
+    private static final AtomicReference<WireMockServer> FIRST_SERVER = new AtomicReference<>();
+
+    @MicronautWireMockTest(
+            value = @ConfigureWireMock(name = "cached-service", properties = "cached-service.url"),
+            cacheContext = true
+    )
+    @Nested
+    @Order(1)
+    class FirstCachedContextTest {
+        @InjectWireMock("cached-service")
+        private WireMockServer server;
+
+        @Inject
+        private ApplicationContext applicationContext;
+
+        @Test
+        @DisplayName("Test classes with equal configurations should share the application context and its servers")
+        void successOnSharingCachedContext() {
+            // given
+            FIRST_CONTEXT.compareAndSet(null, applicationContext);
+            FIRST_SERVER.compareAndSet(null, server);
+
+            // expect
+            assertThat(applicationContext).isSameAs(FIRST_CONTEXT.get());
+            assertThat(server).isSameAs(FIRST_SERVER.get());
+            assertThat(server.isRunning()).isTrue();
+            assertThat(applicationContext.getProperty("cached-service.url", String.class)).contains(server.baseUrl());
+        }
+    }
+
+    @MicronautWireMockTest(
+            value = @ConfigureWireMock(name = "cached-service", properties = "cached-service.url"),
+            cacheContext = true
+    )
+    @Nested
+    @Order(2)
+    class SecondCachedContextTest {
+        @InjectWireMock("cached-service")
+        private WireMockServer server;
+
+        @Inject
+        private ApplicationContext applicationContext;
+
+        @Test
+        @DisplayName("Test classes with equal configurations should share the application context and its servers")
+        void successOnSharingCachedContext() {
+            // given
+            FIRST_CONTEXT.compareAndSet(null, applicationContext);
+            FIRST_SERVER.compareAndSet(null, server);
+
+            // expect
+            assertThat(applicationContext).isSameAs(FIRST_CONTEXT.get());
+            assertThat(server).isSameAs(FIRST_SERVER.get());
+            assertThat(server.isRunning()).isTrue();
+            assertThat(applicationContext.getProperty("cached-service.url", String.class)).contains(server.baseUrl());
+        }
+    }
+
+    @MicronautWireMockTest(
+            value = @ConfigureWireMock(name = "cached-service", properties = "cached-service.url"),
+            cacheContext = true
+    )
+    @Property(name = "other.property", value = "other-value")
+    @Nested
+    @Order(3)
+    class DifferentPropertiesContextTest {
+        @Inject
+        private ApplicationContext applicationContext;
+
+        @Test
+        @DisplayName("Test classes with different properties shouldn't share the application context")
+        void successOnNotSharingCachedContext() {
+            assertThat(FIRST_CONTEXT.get()).as("cached context created by the previous test classes").isNotNull();
+            assertThat(applicationContext).isNotSameAs(FIRST_CONTEXT.get());
+            assertThat(applicationContext.getProperty("other.property", String.class)).contains("other-value");
+        }
+    }
+}
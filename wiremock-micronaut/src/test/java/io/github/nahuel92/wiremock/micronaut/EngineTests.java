@@ -0,0 +1,52 @@
+package io.github.nahuel92.wiremock.micronaut;
+
+import org.junit.jupiter.api.extension.ConditionEvaluationResult;
+import org.junit.jupiter.api.extension.ExecutionCondition;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.platform.testkit.engine.EngineTestKit;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Helpers for tests running sample test classes through {@link EngineTestKit}.
+ * <p>
+ * Sample test classes are annotated with {@link Only}, so they're skipped when the build discovers them on its own
+ * and only run on the engines started by {@link #engine()}.
+ */
+class EngineTests {
+    private static final String ENGINE_TEST_PARAMETER = "wiremock.micronaut.engine-test";
+
+    private EngineTests() {
+    }
+
+    /**
+     * Returns a Jupiter engine builder that runs test classes annotated with {@link Only}.
+     *
+     * @return the engine builder
+     */
+    static EngineTestKit.Builder engine() {
+        return EngineTestKit.engine("junit-jupiter").configurationParameter(ENGINE_TEST_PARAMETER, "true");
+    }
+
+    /**
+     * Marks a sample test class that only runs on engines started by {@link #engine()}.
+     */
+    @Target(ElementType.TYPE)
+    @Retention(RetentionPolicy.RUNTIME)
+    @ExtendWith(OnlyCondition.class)
+    @interface Only {
+    }
+
+    static class OnlyCondition implements ExecutionCondition {
+        @Override
+        public ConditionEvaluationResult evaluateExecutionCondition(final ExtensionContext context) {
+            return context.getConfigurationParameter(ENGINE_TEST_PARAMETER, Boolean::parseBoolean).orElse(false)
+                    ? ConditionEvaluationResult.enabled("Running on an engine started by EngineTests")
+                    : ConditionEvaluationResult.disabled("Sample test class, only run through EngineTests");
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package io.github.nahuel92.wiremock.micronaut;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import io.micronaut.http.HttpRequest;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.http.client.exceptions.HttpClientResponseException;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.any;
+import static com.github.tomakehurst.wiremock.client.WireMock.anyUrl;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.ok;
+import static com.github.tomakehurst.wiremock.client.WireMock.post;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlMatching;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@MicronautWireMockTest(@ConfigureWireMock(name = "user-service", properties = "user-service.url", indexStubs = true))
+class IndexedStubsTest {
+    @Inject
+    private HttpClient httpClient;
+
+    @InjectWireMock("user-service")
+    private WireMockServer server;
+
+    @Test
+    @DisplayName("WireMock should match indexed stubs in the same order as non indexed ones")
+    void successOnMatchingIndexedStubsInOrder() {
+        // given
+        server.stubFor(any(anyUrl()).atPriority(10).willReturn(ok("fallback")));
+        server.stubFor(get(urlMatching("/users/[0-9]+")).willReturn(ok("by regex")));
+        server.stubFor(get(urlPathEqualTo("/users/1")).willReturn(ok("by path")));
+        server.stubFor(get("/users/1?verbose=true").willReturn(ok("by url")));
+
+        // when / then
+        assertThat(body("/users/1?verbose=true")).isEqualTo("by url");
+        assertThat(body("/users/1")).isEqualTo("by path");
+        assertThat(body("/users/2")).isEqualTo("by regex");
+        assertThat(body("/todos/1")).isEqualTo("fallback");
+    }
+
+    @Test
+    @DisplayName("WireMock should stop matching indexed stubs once they're removed")
+    void successOnRemovingIndexedStubs() {
+        // given
+        final var stub = server.stubFor(post("/users").willReturn(ok()));
+        server.removeStub(stub);
+
+        // when / then
+        assertThatThrownBy(() -> httpClient.toBlocking().exchange(
+                HttpRequest.POST(server.baseUrl() + "/users", ""))
+        ).isInstanceOf(HttpClientResponseException.class);
+    }
+
+    @Test
+    @DisplayName("WireMock should match regex stubs indexed by prefixes of different lengths, even after removals")
+    void successOnMatchingStubsIndexedByPrefix() {
+        // given
+        server.stubFor(get(urlMatching("/orders/[0-9]+")).willReturn(ok("order")));
+        server.stubFor(get(urlMatching("/orders/archived/[0-9]+")).willReturn(ok("archived order")));
+        final var carts = server.stubFor(get(urlMatching("/carts/[0-9]+")).willReturn(ok("cart")));
+        server.stubFor(get(urlMatching("/items/[0-9]+")).willReturn(ok("item")));
+
+        // when
+        server.removeStub(carts);
+
+        // then
+        assertThat(body("/orders/1")).isEqualTo("order");
+        assertThat(body("/orders/archived/1")).isEqualTo("archived order");
+        assertThat(body("/items/1")).isEqualTo("item");
+        assertThatThrownBy(() -> body("/carts/1")).isInstanceOf(HttpClientResponseException.class);
+    }
+
+    @Test
+    @DisplayName("WireMock should only use the literal prefix of URL regular expressions as index")
+    void successOnGettingRegexLiteralPrefix() {
+        assertThat(IndexedStubMappingStore.literalPrefixOf("^/users/[0-9]+")).isEqualTo("/users/");
+        assertThat(IndexedStubMappingStore.literalPrefixOf("/users?")).isEqualTo("/user");
+        assertThat(IndexedStubMappingStore.literalPrefixOf("/users|/todos")).isEmpty();
+        assertThat(IndexedStubMappingStore.literalPrefixOf(".*")).isEmpty();
+    }
+
+    private String body(final String path) {
+        return httpClient.toBlocking().retrieve(server.baseUrl() + path);
+    }
+}
@@ -0,0 +1,83 @@
+package io.github.nahuel92.wiremock.micronaut;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.extension.Extension;
+import com.github.tomakehurst.wiremock.extension.ExtensionFactory;
+import com.github.tomakehurst.wiremock.extension.WireMockServices;
+import io.micronaut.context.env.Environment;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@MicronautWireMockTest({
+        @ConfigureWireMock(
+                name = "injected-service",
+                properties = "injected-service.url",
+                portProperty = "injected-service.port",
+                lazy = true
+        ),
+        @ConfigureWireMock(
+                name = "connected-service",
+                properties = "connected-service.url",
+                portProperty = "connected-service.port",
+                lazy = true,
+                extensionFactories = LazyServerTest.CreationCounter.class
+        )
+})
+class LazyServerTest {
+    @Inject
+    private Environment environment;
+
+    @Test
+    @DisplayName("WireMock should start a lazy server when it's injected")
+    void successOnStartingLazyServerOnInjection(@InjectWireMock("injected-service") final WireMockServer server) {
+        // expect
+        assertThat(server.isRunning()).isTrue();
+        CommonAssertions.assertWireMockServerIsConfigured(
+                server,
+                environment,
+                "injected-service.url",
+                "injected-service.port"
+        );
+    }
+
+    @Test
+    @DisplayName("WireMock should start a lazy server when its port receives the first connection")
+    void successOnStartingLazyServerOnFirstConnection() throws Exception {
+        // given
+        final var url = environment.getRequiredProperty("connected-service.url", String.class);
+        final var request = HttpRequest.newBuilder(URI.create(url + "/not-stubbed")).build();
+        assertThat(CreationCounter.CREATED).hasValue(0);
+
+        // when
+        try (final var httpClient = HttpClient.newHttpClient()) {
+            final var response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+
+            // then
+            assertThat(response.statusCode()).isEqualTo(404);
+            assertThat(CreationCounter.CREATED).hasValue(1);
+        }
+    }
+
+    /**
+     * Counts how many times the connected server was created, since extension factories are applied then.
+     */
+    static class CreationCounter implements ExtensionFactory {
+        static final AtomicInteger CREATED = new AtomicInteger();
+
+        @Override
+        public List<Extension> create(final WireMockServices services) {
+            CREATED.incrementAndGet();
+            return List.of();
+        }
+    }
+}
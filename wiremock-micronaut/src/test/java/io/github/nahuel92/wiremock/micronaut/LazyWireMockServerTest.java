@@ -0,0 +1,165 @@
+package io.github.nahuel92.wiremock.micronaut;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.BindException;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LazyWireMockServerTest {
+    private static final int CONCURRENT_CONNECTIONS = 20;
+
+    private LazyWireMockServer lazyServer;
+
+    @AfterEach
+    void tearDown() {
+        if (lazyServer != null) {
+            lazyServer.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Lazy servers should not be created before they're first requested")
+    void successOnDeferringServerCreation() {
+        // given
+        final var created = new AtomicInteger();
+        lazyServer = LazyWireMockServer.reserve("deferred-service", 0, port -> {
+            created.incrementAndGet();
+            return new WireMockServer(options().port(port));
+        }, WireMockServer::start, server -> {
+        });
+
+        // when
+        final var createdBeforeFirstUse = created.get();
+        final var server = lazyServer.get();
+
+        // then
+        assertThat(createdBeforeFirstUse).isZero();
+        assertThat(created).hasValue(1);
+        assertThat(server.isRunning()).isTrue();
+        assertThat(lazyServer.get()).isSameAs(server);
+    }
+
+    @Test
+    @DisplayName("Connections made while a lazy server is starting should all be forwarded to it")
+    void successOnForwardingConcurrentConnections() throws Exception {
+        // given
+        lazyServer = LazyWireMockServer.reserve("concurrently-connected-service", 0, port -> {
+            pause();  // Slow stub loading, so connections pile up on the reservation.
+            return new WireMockServer(options().port(port));
+        }, WireMockServer::start, server -> {
+        });
+        final var port = lazyServer.port();
+        final Callable<String> client = () -> requestStatusLine(port);
+
+        // when
+        try (final var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            final var responses = executor.invokeAll(IntStream.range(0, CONCURRENT_CONNECTIONS)
+                    .mapToObj(i -> client)
+                    .toList());
+
+            // then
+            assertThat(responses).extracting(Future::get).containsOnly("HTTP/1.1 200 OK");
+        }
+    }
+
+    @Test
+    @DisplayName("Lazy servers should retry binding their reserved port when it's briefly taken")
+    void successOnRetryingBindFailures() {
+        // given
+        final var attempts = new AtomicInteger();
+        lazyServer = LazyWireMockServer.reserve("retried-service", 0, port -> new WireMockServer(options().port(port)),
+                server -> {
+                    if (attempts.incrementAndGet() == 1) {
+                        throw new IllegalStateException(new BindException("Address already in use"));
+                    }
+                    server.start();
+                }, server -> {
+                });
+
+        // when
+        final var server = lazyServer.get();
+
+        // then
+        assertThat(attempts).hasValue(2);
+        assertThat(server.isRunning()).isTrue();
+        assertThat(server.port()).isEqualTo(lazyServer.port());
+    }
+
+    @Test
+    @DisplayName("Lazy servers should fail naming the port when it stays taken")
+    void failureOnBindingTakenPort() {
+        // given
+        final var attempts = new AtomicInteger();
+        lazyServer = LazyWireMockServer.reserve("taken-service", 0, port -> new WireMockServer(options().port(port)),
+                server -> {
+                    attempts.incrementAndGet();
+                    throw new IllegalStateException(new BindException("Address already in use"));
+                }, server -> {
+                });
+
+        // expect
+        assertThatThrownBy(lazyServer::get)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Reserved port '" + lazyServer.port() + "' of lazy WireMockServer with name "
+                        + "'taken-service' was taken by another process before the server could bind it")
+                .hasRootCauseInstanceOf(BindException.class);
+        assertThat(attempts).hasValue(LazyWireMockServer.BIND_ATTEMPTS);
+    }
+
+    @Test
+    @DisplayName("Lazy servers should not retry failures unrelated to binding the port")
+    void failureOnStartingMisconfiguredServer() {
+        // given
+        final var attempts = new AtomicInteger();
+        lazyServer = LazyWireMockServer.reserve("misconfigured-service", 0, port -> {
+            attempts.incrementAndGet();
+            throw new IllegalArgumentException("Invalid configuration");
+        }, WireMockServer::start, server -> {
+        });
+
+        // expect
+        assertThatThrownBy(lazyServer::get)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Invalid configuration");
+        assertThat(attempts).hasValue(1);
+    }
+
+    private static String requestStatusLine(final int port) throws IOException {
+        try (final var socket = new Socket("localhost", port)) {
+            socket.getOutputStream().write("""
+                    GET /__admin/mappings HTTP/1.1\r
+                    Host: localhost\r
+                    Connection: close\r
+                    \r
+                    """.getBytes(StandardCharsets.US_ASCII));
+            final var reader = new BufferedReader(
+                    new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII)
+            );
+            return reader.readLine();
+        }
+    }
+
+    private static void pause() {
+        try {
+            Thread.sleep(500);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
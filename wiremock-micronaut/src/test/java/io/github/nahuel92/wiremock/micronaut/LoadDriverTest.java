@@ -0,0 +1,79 @@
+package io.github.nahuel92.wiremock.micronaut;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import io.micronaut.http.client.HttpClient;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.ok;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@MicronautWireMockTest(@ConfigureWireMock(name = "user-service", properties = "user-service.url", metrics = true))
+class LoadDriverTest {
+    private static final int DELAY_MILLIS = 50;
+
+    @Inject
+    private HttpClient httpClient;
+
+    @InjectWireMock("user-service")
+    private WireMockServer server;
+
+    @InjectWireMock("user-service")
+    private LoadDriver loadDriver;
+
+    @BeforeEach
+    void setUp() {
+        server.stubFor(get("/users/1").willReturn(ok().withFixedDelay(DELAY_MILLIS)));
+    }
+
+    @Test
+    @DisplayName("Load driver should start calls at a fixed rate and count the requests received by the server")
+    void successOnRunningAtFixedRate() {
+        // when
+        final var result = loadDriver.atFixedRate(50, Duration.ofSeconds(1), this::findUser);
+
+        // then
+        assertThat(result.calls()).isEqualTo(50);
+        assertThat(result.errors()).isZero();
+        assertThat(result.serverRequests()).isEqualTo(50);
+        assertThat(result.latency().count()).isEqualTo(50);
+        assertThat(result.latency().percentile(50)).isGreaterThanOrEqualTo(Duration.ofMillis(DELAY_MILLIS));
+        assertThat(result.latency().max()).isGreaterThanOrEqualTo(result.serviceTime().max());
+    }
+
+    @Test
+    @DisplayName("Load driver should keep the given number of calls in flight")
+    void successOnRunningWithConcurrency() {
+        // when
+        final var result = loadDriver.withConcurrency(4, Duration.ofMillis(500), this::findUser);
+
+        // then
+        assertThat(result.calls()).isPositive();
+        assertThat(result.errors()).isZero();
+        assertThat(result.serverRequests()).isEqualTo(result.calls());
+        assertThat(result.throughput()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Load driver should count calls throwing exceptions as errors")
+    void successOnCountingErrors() {
+        // when
+        final var result = loadDriver.atFixedRate(20, Duration.ofMillis(250), () -> {
+            throw new IllegalStateException("Downstream failure");
+        });
+
+        // then
+        assertThat(result.calls()).isEqualTo(5);
+        assertThat(result.errors()).isEqualTo(5);
+        assertThat(result.serverRequests()).isZero();
+    }
+
+    private String findUser() {
+        return httpClient.toBlocking().retrieve(server.baseUrl() + "/users/1");
+    }
+}
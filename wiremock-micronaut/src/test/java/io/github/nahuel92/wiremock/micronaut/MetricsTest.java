@@ -0,0 +1,67 @@
+package io.github.nahuel92.wiremock.micronaut;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import io.micronaut.http.client.HttpClient;
+import io.micronaut.http.client.exceptions.HttpClientResponseException;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.ok;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+@MicronautWireMockTest(@ConfigureWireMock(name = "user-service", properties = "user-service.url", metrics = true))
+class MetricsTest {
+    @Inject
+    private HttpClient httpClient;
+
+    @InjectWireMock("user-service")
+    private WireMockServer server;
+
+    @InjectWireMock("user-service")
+    private WireMockMetrics metrics;
+
+    @Test
+    @DisplayName("WireMock should record request counts, stub hits and matching times when metrics are enabled")
+    void successOnRecordingMetrics() {
+        // given
+        final var stub = server.stubFor(get("/users/1").willReturn(ok()));
+
+        // when
+        httpClient.toBlocking().exchange(server.baseUrl() + "/users/1");
+        assertThatThrownBy(() -> httpClient.toBlocking().exchange(server.baseUrl() + "/users/2"))
+                .isInstanceOf(HttpClientResponseException.class);
+
+        // then
+        assertThat(metrics.requests()).isEqualTo(2);
+        assertThat(metrics.unmatchedRequests()).isEqualTo(1);
+        assertThat(metrics.stubHits()).containsEntry(stub.getId(), 1L);
+        assertThat(metrics.matchingTime().count()).isEqualTo(2);
+        assertThat(metrics.matchingTime().percentile(100)).isEqualTo(metrics.matchingTime().max());
+    }
+
+    @Test
+    @DisplayName("WireMock should count the closest stub of unmatched requests as a near miss")
+    void successOnRecordingNearMisses() {
+        // given
+        final var stub = server.stubFor(get("/orders/1").willReturn(ok()));
+
+        // when
+        assertThatThrownBy(() -> httpClient.toBlocking().exchange(server.baseUrl() + "/orders/2"))
+                .isInstanceOf(HttpClientResponseException.class);
+
+        // then
+        assertThat(metrics.unmatchedRequests()).isEqualTo(1);
+        assertThat(metrics.stubHits()).isEmpty();
+        assertThat(metrics.nearMisses()).containsExactly(entry(stub.getId(), 1L));
+    }
+
+    @Test
+    @DisplayName("WireMock metrics should be available when injected as a method param")
+    void successOnInjectingMetricsAsParameter(@InjectWireMock("user-service") final WireMockMetrics injected) {
+        assertThat(injected).isSameAs(metrics);
+    }
+}
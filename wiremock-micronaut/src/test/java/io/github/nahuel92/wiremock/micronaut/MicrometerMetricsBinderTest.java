@@ -0,0 +1,69 @@
+package io.github.nahuel92.wiremock.micronaut;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micronaut.context.ApplicationContext;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+
+class MicrometerMetricsBinderTest {
+    @Test
+    @DisplayName("Metrics should be published to the Micrometer registry of the context, tagged with the server name")
+    void successOnBindingMetricsToRegistry() {
+        // given
+        final var registry = new SimpleMeterRegistry();
+        final var userMetrics = new WireMockMetrics();
+        final var todoMetrics = new WireMockMetrics();
+        try (final var applicationContext = ApplicationContext.run()) {
+            applicationContext.registerSingleton(MeterRegistry.class, registry);
+
+            // when
+            MicrometerMetricsBinder.bind(applicationContext, "user-service", userMetrics);
+            MicrometerMetricsBinder.bind(applicationContext, "todo-service", todoMetrics);
+            userMetrics.recordMatch(UUID.randomUUID(), TimeUnit.MILLISECONDS.toNanos(2));
+            userMetrics.recordMatch(null, TimeUnit.MILLISECONDS.toNanos(4));
+            userMetrics.recordResponse(TimeUnit.MILLISECONDS.toNanos(8));
+            todoMetrics.recordMatch(UUID.randomUUID(), TimeUnit.MILLISECONDS.toNanos(1));
+        }
+
+        // then
+        assertThat(registry.get("wiremock.requests").tag("server", "user-service").functionCounter().count())
+                .isEqualTo(2);
+        assertThat(registry.get("wiremock.requests.unmatched").tag("server", "user-service").functionCounter().count())
+                .isEqualTo(1);
+        assertThat(registry.get("wiremock.requests").tag("server", "todo-service").functionCounter().count())
+                .isEqualTo(1);
+        assertThat(registry.get("wiremock.matching").tag("server", "user-service").functionTimer().count())
+                .isEqualTo(2);
+        assertThat(registry.get("wiremock.response").tag("server", "user-service").functionTimer()
+                .totalTime(TimeUnit.MILLISECONDS)).isEqualTo(8);
+        assertThat(registry.get("wiremock.matching.percentile")
+                .tags("server", "user-service", "percentile", "0.99")
+                .timeGauge()
+                .value(TimeUnit.NANOSECONDS)).isPositive();
+    }
+
+    @Test
+    @DisplayName("Metrics should not be published when the context has no Micrometer registry")
+    void successOnSkippingContextWithoutRegistry() {
+        // given
+        final var metrics = new WireMockMetrics();
+        final var registry = new SimpleMeterRegistry();
+        try (final var applicationContext = ApplicationContext.run()) {
+            // when
+            assertThatCode(() -> MicrometerMetricsBinder.bind(applicationContext, "user-service", metrics))
+                    .doesNotThrowAnyException();
+            applicationContext.registerSingleton(MeterRegistry.class, registry);
+            metrics.recordMatch(UUID.randomUUID(), TimeUnit.MILLISECONDS.toNanos(2));
+        }
+
+        // then
+        assertThat(registry.getMeters()).isEmpty();
+    }
+}
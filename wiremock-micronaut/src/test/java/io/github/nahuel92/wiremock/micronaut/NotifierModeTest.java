@@ -0,0 +1,167 @@
+package io.github.nahuel92.wiremock.micronaut;
+
+import com.github.tomakehurst.wiremock.common.Notifier;
+import com.github.tomakehurst.wiremock.common.Slf4jNotifier;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NotifierModeTest {
+    private static final Duration FLUSH_TIMEOUT = Duration.ofSeconds(10);
+
+    @Test
+    @DisplayName("OFF should discard every message")
+    void successOnDiscardingEveryMessage() {
+        // when
+        final var notifier = notifierOf(OffNotifier.class);
+
+        // then
+        assertThat(notifier).isInstanceOf(SilentNotifier.class);
+    }
+
+    @Test
+    @DisplayName("ERRORS should only log errors")
+    void successOnLoggingOnlyErrors() {
+        // when
+        final var notifier = notifierOf(ErrorsNotifier.class);
+
+        // then
+        assertThat(notifier).isInstanceOf(Slf4jNotifier.class).extracting("verbose").isEqualTo(false);
+    }
+
+    @Test
+    @DisplayName("VERBOSE should log every message")
+    void successOnLoggingEveryMessage() {
+        // when
+        final var notifier = notifierOf(VerboseNotifier.class);
+
+        // then
+        assertThat(notifier).isInstanceOf(Slf4jNotifier.class).extracting("verbose").isEqualTo(true);
+    }
+
+    @Test
+    @DisplayName("ASYNC should log every message on a background thread")
+    void successOnLoggingEveryMessageAsynchronously() {
+        // when
+        final var notifier = notifierOf(AsyncModeNotifier.class);
+
+        // then
+        assertThat(notifier).isInstanceOf(AsyncNotifier.class).extracting("delegate")
+                .isInstanceOf(Slf4jNotifier.class)
+                .extracting("verbose")
+                .isEqualTo(true);
+    }
+
+    @Test
+    @DisplayName("Asynchronous notifiers should deliver messages in order, off the emitting thread")
+    void successOnDeliveringMessagesInOrder() {
+        // given
+        final var delegate = new RecordingNotifier();
+        final var notifier = new AsyncNotifier(delegate);
+
+        // when
+        notifier.info("request received");
+        notifier.error("request not matched");
+        notifier.error("response failed", new IllegalStateException("broken pipe"));
+
+        // then
+        assertThat(AsyncNotifier.flush(FLUSH_TIMEOUT)).isTrue();
+        assertThat(delegate.messages)
+                .containsExactly("INFO request received", "ERROR request not matched", "ERROR response failed");
+        assertThat(delegate.threads).containsOnly("wiremock-async-notifier");
+    }
+
+    @Test
+    @DisplayName("Asynchronous notifiers should log on the emitting thread once the backlog is full")
+    void successOnLoggingOnEmittingThreadWhenBacklogIsFull() throws InterruptedException {
+        // given
+        final var blocked = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        final var delegate = new RecordingNotifier() {
+            @Override
+            public void info(final String message) {
+                if (message.equals("blocking")) {
+                    blocked.countDown();
+                    await(release);
+                }
+                super.info(message);
+            }
+        };
+        final var notifier = new AsyncNotifier(delegate);
+        notifier.info("blocking");
+        assertThat(blocked.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        IntStream.range(0, AsyncNotifier.QUEUE_CAPACITY).forEach(i -> notifier.info("queued"));
+        notifier.info("overflow");
+
+        // then
+        assertThat(delegate.messages).containsExactly("INFO overflow");
+        assertThat(delegate.threads).containsExactly(Thread.currentThread().getName());
+        release.countDown();
+        assertThat(AsyncNotifier.flush(FLUSH_TIMEOUT)).isTrue();
+        assertThat(delegate.messages).hasSize(AsyncNotifier.QUEUE_CAPACITY + 2);
+    }
+
+    private static Notifier notifierOf(final Class<?> testClass) {
+        return WireMockConfigurationMapper.from(testClass.getAnnotation(MicronautWireMockTest.class).value()[0])
+                .notifier();
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class RecordingNotifier implements Notifier {
+        final List<String> messages = new CopyOnWriteArrayList<>();
+        final List<String> threads = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void info(final String message) {
+            record("INFO " + message);
+        }
+
+        @Override
+        public void error(final String message) {
+            record("ERROR " + message);
+        }
+
+        @Override
+        public void error(final String message, final Throwable t) {
+            record("ERROR " + message);
+        }
+
+        private void record(final String message) {
+            messages.add(message);
+            threads.add(Thread.currentThread().getName());
+        }
+    }
+
+    @MicronautWireMockTest(@ConfigureWireMock(name = "off-service", notifier = NotifierMode.OFF))
+    private static class OffNotifier {
+    }
+
+    @MicronautWireMockTest(@ConfigureWireMock(name = "errors-service", notifier = NotifierMode.ERRORS))
+    private static class ErrorsNotifier {
+    }
+
+    @MicronautWireMockTest(@ConfigureWireMock(name = "verbose-service", notifier = NotifierMode.VERBOSE))
+    private static class VerboseNotifier {
+    }
+
+    @MicronautWireMockTest(@ConfigureWireMock(name = "async-service", notifier = NotifierMode.ASYNC))
+    private static class AsyncModeNotifier {
+    }
+}
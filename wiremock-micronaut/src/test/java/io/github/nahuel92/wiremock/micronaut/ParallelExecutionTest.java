@@ -0,0 +1,116 @@
+package io.github.nahuel92.wiremock.micronaut;
+
+import io.micronaut.context.ApplicationContext;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.ok;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlEqualTo;
+import static com.github.tomakehurst.wiremock.client.WireMock.verify;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+
+class ParallelExecutionTest {
+    private static final int TEST_CLASSES = 4;
+    private static final CyclicBarrier BARRIER = new CyclicBarrier(TEST_CLASSES);
+
+    @Test
+    @DisplayName("Test classes with single server configurations should use their own server when run in parallel")
+    void successOnRunningTestClassesInParallel() {
+        // when
+        final var results = EngineTests.engine()
+                .configurationParameter("junit.jupiter.execution.parallel.enabled", "true")
+                .configurationParameter("junit.jupiter.execution.parallel.mode.classes.default", "concurrent")
+                .configurationParameter("junit.jupiter.execution.parallel.config.strategy", "fixed")
+                .configurationParameter(
+                        "junit.jupiter.execution.parallel.config.fixed.parallelism", String.valueOf(TEST_CLASSES)
+                )
+                .selectors(
+                        selectClass(FirstServiceTest.class),
+                        selectClass(SecondServiceTest.class),
+                        selectClass(ThirdServiceTest.class),
+                        selectClass(FourthServiceTest.class)
+                )
+                .execute();
+
+        // then
+        results.testEvents().assertStatistics(stats -> stats.started(TEST_CLASSES).succeeded(TEST_CLASSES));
+    }
+
+    abstract static class SingleServerTest {
+        private final HttpClient httpClient = HttpClient.newHttpClient();
+
+        @Inject
+        private ApplicationContext applicationContext;
+
+        abstract String serviceName();
+
+        @Test
+        void successOnStubbingOwnServer() throws Exception {
+            // given
+            stubFor(get("/whoami").willReturn(ok(serviceName())));
+            BARRIER.await(30, TimeUnit.SECONDS);  // Every test class has stubbed its server before any request is sent.
+
+            // when
+            final var response = whoAmI();
+
+            // then
+            assertThat(response).isEqualTo(serviceName());
+            verify(1, getRequestedFor(urlEqualTo("/whoami")));
+        }
+
+        private String whoAmI() throws IOException, InterruptedException {
+            final var baseUrl = applicationContext.getRequiredProperty(serviceName() + ".url", String.class);
+            final var request = HttpRequest.newBuilder(URI.create(baseUrl + "/whoami")).build();
+            return httpClient.send(request, HttpResponse.BodyHandlers.ofString()).body();
+        }
+    }
+
+    @EngineTests.Only
+    @MicronautWireMockTest(@ConfigureWireMock(name = "first-service", properties = "first-service.url"))
+    static class FirstServiceTest extends SingleServerTest {
+        @Override
+        String serviceName() {
+            return "first-service";
+        }
+    }
+
+    @EngineTests.Only
+    @MicronautWireMockTest(@ConfigureWireMock(name = "second-service", properties = "second-service.url"))
+    static class SecondServiceTest extends SingleServerTest {
+        @Override
+        String serviceName() {
+            return "second-service";
+        }
+    }
+
+    @EngineTests.Only
+    @MicronautWireMockTest(@ConfigureWireMock(name = "third-service", properties = "third-service.url"))
+    static class ThirdServiceTest extends SingleServerTest {
+        @Override
+        String serviceName() {
+            return "third-service";
+        }
+    }
+
+    @EngineTests.Only
+    @MicronautWireMockTest(@ConfigureWireMock(name = "fourth-service", properties = "fourth-service.url"))
+    static class FourthServiceTest extends SingleServerTest {
+        @Override
+        String serviceName() {
+            return "fourth-service";
+        }
+    }
+}
@@ -0,0 +1,145 @@
+package io.github.nahuel92.wiremock.micronaut;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ParallelServerStarterTest {
+    @Test
+    @DisplayName("Servers should be started in declaration order, no matter which one finishes first")
+    void successOnStartingEveryServer() {
+        // given
+        final var configurations = configurationsOf(ThreeServers.class);
+
+        // when
+        final var servers = ParallelServerStarter.startAll(
+                configurations, each -> startServer(), (each, server) -> server.stop()
+        );
+
+        // then
+        try {
+            assertThat(servers).hasSize(3).allSatisfy(server -> assertThat(server.isRunning()).isTrue());
+        } finally {
+            servers.forEach(WireMockServer::stop);
+        }
+    }
+
+    @Test
+    @DisplayName("The first failing server should be rethrown, the rest suppressed, and started servers discarded")
+    void failureOnStartingSomeServers() {
+        // given
+        final var configurations = configurationsOf(ThreeServers.class);
+        final Map<String, WireMockServer> started = new ConcurrentHashMap<>();
+        final Map<String, WireMockServer> discarded = new ConcurrentHashMap<>();
+
+        // when
+        final var thrown = assertThatThrownBy(() -> ParallelServerStarter.startAll(configurations, each -> {
+            if (!each.name().equals("first")) {
+                throw new IllegalArgumentException("Invalid configuration for " + each.name());
+            }
+            final var server = startServer();
+            started.put(each.name(), server);
+            return server;
+        }, (each, server) -> {
+            discarded.put(each.name(), server);
+            server.stop();
+        }));
+
+        // then
+        thrown.isInstanceOf(IllegalStateException.class)
+                .hasMessage("Couldn't start WireMockServer with name 'second'")
+                .hasRootCauseMessage("Invalid configuration for second")
+                .satisfies(e -> assertThat(e.getSuppressed())
+                        .singleElement()
+                        .satisfies(suppressed -> assertThat(suppressed)
+                                .hasMessage("Couldn't start WireMockServer with name 'third'")
+                                .hasRootCauseMessage("Invalid configuration for third")
+                        )
+                );
+        assertThat(started).containsOnlyKeys("first");
+        assertThat(discarded).containsExactlyEntriesOf(started);
+        assertThat(started.get("first").isRunning()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Pooled servers started along with a failing server should be given back to the pool")
+    void failureOnStartingServerAlongWithPooledOnes() {
+        // given
+        final var configurations = configurationsOf(PooledServers.class);
+        final var pool = new WireMockServerPool();
+        final Map<String, WireMockServer> leased = new ConcurrentHashMap<>();
+        try {
+            // when
+            assertThatThrownBy(() -> ParallelServerStarter.startAll(configurations, each -> {
+                if (!each.pooled()) {
+                    throw new IllegalArgumentException("Invalid configuration for " + each.name());
+                }
+                final var server = pool.lease(each, ignored -> startServer());
+                leased.put(each.name(), server);
+                return server;
+            }, (each, server) -> pool.releaseAction(each, server).run()))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("Couldn't start WireMockServer with name 'unpooled'");
+
+            // then
+            final var pooledOptions = configurations.getFirst();
+            assertThat(pool.lease(pooledOptions, ignored -> startServer()))
+                    .isSameAs(leased.get(pooledOptions.name()))
+                    .satisfies(server -> assertThat(server.isRunning()).isTrue());
+        } finally {
+            pool.close();
+        }
+    }
+
+    @Test
+    @DisplayName("A single failing server should be reported the same way as one among several")
+    void failureOnStartingSingleServer() {
+        // given
+        final var configurations = configurationsOf(SingleServer.class);
+
+        // expect
+        assertThatThrownBy(() -> ParallelServerStarter.startAll(configurations, each -> {
+            throw new IllegalArgumentException("Invalid configuration for " + each.name());
+        }, (each, server) -> server.stop()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Couldn't start WireMockServer with name 'only'")
+                .hasRootCauseMessage("Invalid configuration for only");
+    }
+
+    private static WireMockServer startServer() {
+        final var server = new WireMockServer(options().dynamicPort());
+        server.start();
+        return server;
+    }
+
+    private static List<ConfigureWireMock> configurationsOf(final Class<?> testClass) {
+        return List.of(testClass.getAnnotation(MicronautWireMockTest.class).value());
+    }
+
+    @MicronautWireMockTest({
+            @ConfigureWireMock(name = "first"),
+            @ConfigureWireMock(name = "second"),
+            @ConfigureWireMock(name = "third")
+    })
+    private static class ThreeServers {
+    }
+
+    @MicronautWireMockTest({
+            @ConfigureWireMock(name = "pooled", pooled = true),
+            @ConfigureWireMock(name = "unpooled")
+    })
+    private static class PooledServers {
+    }
+
+    @MicronautWireMockTest(@ConfigureWireMock(name = "only"))
+    private static class SingleServer {
+    }
+}
@@ -0,0 +1,57 @@
+package io.github.nahuel92.wiremock.micronaut;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.engine.reporting.ReportEntry;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+
+class PhaseTimingsTest {
+    @Test
+    @DisplayName("Test classes should publish the time taken by each phase of the extension as report entries")
+    void successOnPublishingPhaseTimings() {
+        // when
+        final var results = EngineTests.engine()
+                .selectors(selectClass(TimedTest.class))
+                .execute();
+
+        // then
+        results.testEvents().assertStatistics(stats -> stats.succeeded(1));
+        final var reportEntries = results.allEvents()
+                .reportingEntryPublished()
+                .stream()
+                .map(event -> event.getRequiredPayload(ReportEntry.class))
+                .flatMap(reportEntry -> reportEntry.getKeyValuePairs().entrySet().stream())
+                .toList();
+        assertThat(reportEntries)
+                .extracting(Map.Entry::getKey)
+                .contains(
+                        "wiremock.context-startup-ms",
+                        "wiremock.servers-startup-ms",
+                        "wiremock.timed-service.create-ms",
+                        "wiremock.timed-service.start-ms",
+                        "wiremock.properties-ms",
+                        "wiremock.reset-ms",
+                        "wiremock.injection-ms"
+                );
+        assertThat(reportEntries)
+                .filteredOn(entry -> entry.getKey().endsWith("-ms"))
+                .allSatisfy(entry -> assertThat(Double.parseDouble(entry.getValue())).isNotNegative());
+    }
+
+    @EngineTests.Only
+    @MicronautWireMockTest(@ConfigureWireMock(name = "timed-service", properties = "timed-service.url"))
+    static class TimedTest {
+        @InjectWireMock("timed-service")
+        private WireMockServer server;
+
+        @Test
+        void successOnInjectingServer() {
+            assertThat(server.isRunning()).isTrue();
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package io.github.nahuel92.wiremock.micronaut;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import io.micronaut.context.env.Environment;
+import io.micronaut.http.client.HttpClient;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.ok;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class PooledServerTest {
+    private static final AtomicReference<WireMockServer> FIRST_LEASED_SERVER = new AtomicReference<>();
+
+    @MicronautWireMockTest(@ConfigureWireMock(name = "pooled-service", properties = "pooled-service.url", pooled = true))
+    @Nested
+    class FirstPooledServerTest {
+        @InjectWireMock("pooled-service")
+        private WireMockServer server;
+
+        @Inject
+        private Environment environment;
+
+        @Test
+        @DisplayName("WireMock should lease the same pooled server to test classes with equal configurations")
+        void successOnLeasingPooledServer() {
+            // given
+            FIRST_LEASED_SERVER.compareAndSet(null, server);
+
+            // expect
+            assertThat(server).isSameAs(FIRST_LEASED_SERVER.get());
+            assertThat(server.getStubMappings()).isEmpty();
+            assertThat(environment.getProperty("pooled-service.url", String.class)).contains(server.baseUrl());
+            server.stubFor(get("/first").willReturn(ok()));
+        }
+    }
+
+    @MicronautWireMockTest(@ConfigureWireMock(name = "pooled-service", properties = "other.url", pooled = true))
+    @Nested
+    class SecondPooledServerTest {
+        @InjectWireMock("pooled-service")
+        private WireMockServer server;
+
+        @Inject
+        private Environment environment;
+
+        @Test
+        @DisplayName("WireMock should reset a pooled server and bind it to the leasing class properties")
+        void successOnLeasingPooledServer() {
+            // given
+            FIRST_LEASED_SERVER.compareAndSet(null, server);
+
+            // expect
+            assertThat(server).isSameAs(FIRST_LEASED_SERVER.get());
+            assertThat(server.getStubMappings()).isEmpty();
+            assertThat(environment.getProperty("other.url", String.class)).contains(server.baseUrl());
+            server.stubFor(get("/second").willReturn(ok()));
+        }
+    }
+
+    @MicronautWireMockTest(@ConfigureWireMock(
+            name = "pooled-metrics-service",
+            properties = "pooled-metrics-service.url",
+            pooled = true,
+            metrics = true,
+            reset = ResetPolicy.NONE
+    ))
+    @Nested
+    class FirstPooledMetricsTest {
+        @Inject
+        private HttpClient httpClient;
+
+        @InjectWireMock("pooled-metrics-service")
+        private WireMockServer server;
+
+        @InjectWireMock("pooled-metrics-service")
+        private WireMockMetrics metrics;
+
+        @Test
+        @DisplayName("WireMock should discard the metrics of a pooled server when leasing it")
+        void successOnDiscardingMetricsOfLeasedServer() {
+            assertMetricsStartFromScratch(httpClient, server, metrics);
+        }
+    }
+
+    @MicronautWireMockTest(@ConfigureWireMock(
+            name = "pooled-metrics-service",
+            properties = "other-metrics.url",
+            pooled = true,
+            metrics = true,
+            reset = ResetPolicy.NONE
+    ))
+    @Nested
+    class SecondPooledMetricsTest {
+        @Inject
+        private HttpClient httpClient;
+
+        @InjectWireMock("pooled-metrics-service")
+        private WireMockServer server;
+
+        @InjectWireMock("pooled-metrics-service")
+        private WireMockMetrics metrics;
+
+        @Test
+        @DisplayName("WireMock should discard the metrics of a pooled server when leasing it again")
+        void successOnDiscardingMetricsOfLeasedServer() {
+            assertMetricsStartFromScratch(httpClient, server, metrics);
+        }
+    }
+
+    private static void assertMetricsStartFromScratch(final HttpClient httpClient, final WireMockServer server,
+                                                      final WireMockMetrics metrics) {
+        // given
+        server.stubFor(get("/metrics").willReturn(ok()));
+
+        // when
+        httpClient.toBlocking().exchange(server.baseUrl() + "/metrics");
+
+        // then
+        assertThat(metrics.requests()).isEqualTo(1);
+        assertThat(metrics.stubHits()).hasSize(1);
+    }
+}
@@ -0,0 +1,43 @@
+package io.github.nahuel92.wiremock.micronaut;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import io.micronaut.context.env.Environment;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.RepeatedTest;
+
+@MicronautWireMockTest(
+        value = {
+                @ConfigureWireMock(name = "user-service", properties = "user-service.url", portProperty = "user-service.port"),
+                @ConfigureWireMock(name = "todo-service", properties = "todo-service.url", portProperty = "todo-service.port")
+        },
+        rebuildContext = true
+)
+class RebuildContextTest {
+    @Inject
+    private Environment environment;
+
+    @InjectWireMock("user-service")
+    private WireMockServer userService;
+
+    @InjectWireMock("todo-service")
+    private WireMockServer todoService;
+
+    @RepeatedTest(2)
+    @DisplayName("WireMock should be configured again when the application context is rebuilt")
+    void successOnConfiguringWireMockAfterContextRebuild() {
+        // expect
+        CommonAssertions.assertWireMockServerIsConfigured(
+                userService,
+                environment,
+                "user-service.url",
+                "user-service.port"
+        );
+        CommonAssertions.assertWireMockServerIsConfigured(
+                todoService,
+                environment,
+                "todo-service.url",
+                "todo-service.port"
+        );
+    }
+}
@@ -0,0 +1,92 @@
+package io.github.nahuel92.wiremock.micronaut;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import io.micronaut.context.env.Environment;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.okJson;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@MicronautWireMockTest({
+        @ConfigureWireMock(name = "recorded-service", port = RecordFromTest.TARGET_PORT),
+        @ConfigureWireMock(
+                name = "recording-service",
+                properties = "recording-service.url",
+                recordFrom = "http://localhost:" + RecordFromTest.TARGET_PORT,
+                stubLocationOnClasspath = false,
+                stubLocation = RecordFromTest.STUB_LOCATION
+        )
+})
+class RecordFromTest {
+    static final int TARGET_PORT = 18_093;
+    static final String STUB_LOCATION = "target/recorded-stubs/recording-service";
+    private static final String USERS = """
+            [{ "id": 1, "name": "Jenna" }]""";
+
+    @Inject
+    private Environment environment;
+
+    @InjectWireMock("recorded-service")
+    private WireMockServer target;
+
+    @AfterAll
+    static void tearDown() throws IOException {
+        try (final var files = Files.walk(Path.of(STUB_LOCATION))) {
+            for (final var file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("WireMock should record the requests proxied by servers configured with recordFrom")
+    void successOnRecordingFromConfiguredTarget() throws IOException, InterruptedException {
+        // given
+        target.stubFor(get("/users").willReturn(okJson(USERS)));
+        final var url = environment.getRequiredProperty("recording-service.url", String.class);
+
+        // when
+        final HttpResponse<String> response;
+        try (final var httpClient = HttpClient.newHttpClient()) {
+            final var request = HttpRequest.newBuilder(URI.create(url + "/users")).build();
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+        }
+
+        // then
+        assertThat(response.body()).isEqualTo(USERS);
+        final var mappingsDirectory = Path.of(STUB_LOCATION, "mappings");
+        awaitDirectory(mappingsDirectory);  // Exchanges are recorded once their responses have been sent.
+        try (final var mappings = Files.list(mappingsDirectory)) {
+            assertThat(mappings).singleElement()
+                    .satisfies(mapping -> assertThat(mapping.getFileName().toString()).startsWith("get-users-"));
+        }
+    }
+
+    private static void awaitDirectory(final Path directory) throws InterruptedException, IOException {
+        final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (System.nanoTime() < deadline) {
+            if (Files.isDirectory(directory)) {
+                try (final var files = Files.list(directory)) {
+                    if (files.findAny().isPresent()) {
+                        return;
+                    }
+                }
+            }
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package io.github.nahuel92.wiremock.micronaut;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.okJson;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RecordingExtensionTest {
+    private static final String USERS = """
+            [{ "id": 1, "name": "Jenna" }]""";
+
+    @TempDir
+    private Path stubDirectory;
+
+    private WireMockServer target;
+    private WireMockServer recorder;
+    private HttpClient httpClient;
+
+    @BeforeEach
+    void setUp() {
+        target = new WireMockServer(options().dynamicPort());
+        target.start();
+        target.stubFor(get("/users").willReturn(okJson(USERS)));
+        target.stubFor(get("/users?active=true").willReturn(okJson(USERS)));
+        recorder = new WireMockServer(options()
+                .dynamicPort()
+                .extensions(new RecordingExtension(target.baseUrl(), stubDirectory)));
+        recorder.start();
+        httpClient = HttpClient.newHttpClient();
+    }
+
+    @AfterEach
+    void tearDown() {
+        httpClient.close();
+        recorder.stop();
+        target.stop();
+    }
+
+    @Test
+    @DisplayName("WireMock should proxy unmatched requests to the target and record each exchange once")
+    void successOnRecordingProxiedRequests() throws IOException, InterruptedException {
+        // when
+        final var response = send("/users");
+        send("/users");
+        send("/users?active=true");
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(response.body()).isEqualTo(USERS);
+        awaitMappings(2);  // Exchanges are recorded once their responses have been sent.
+        try (final var mappings = Files.list(stubDirectory.resolve("mappings"));
+             final var files = Files.list(stubDirectory.resolve("__files"))) {
+            assertThat(mappings).hasSize(2);
+            assertThat(files).singleElement().satisfies(file -> assertThat(file).hasContent(USERS));
+        }
+    }
+
+    @Test
+    @DisplayName("WireMock should keep proxying to the target after a full reset")
+    void successOnProxyingAfterReset() throws IOException, InterruptedException {
+        // given
+        recorder.resetAll();
+
+        // when
+        final var response = send("/users");
+
+        // then
+        assertThat(response.body()).isEqualTo(USERS);
+    }
+
+    private void awaitMappings(final int count) throws IOException, InterruptedException {
+        final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        final var mappingsDirectory = stubDirectory.resolve("mappings");
+        while (System.nanoTime() < deadline) {
+            if (Files.isDirectory(mappingsDirectory)) {
+                try (final var mappings = Files.list(mappingsDirectory)) {
+                    if (mappings.count() >= count) {
+                        return;
+                    }
+                }
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private HttpResponse<String> send(final String path) throws IOException, InterruptedException {
+        final var request = HttpRequest.newBuilder(URI.create(recorder.baseUrl() + path)).build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,63 @@
+package io.github.nahuel92.wiremock.micronaut;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import io.micronaut.http.client.HttpClient;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.platform.engine.reporting.ReportEntry;
+
+import java.util.Map;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.ok;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+
+class RequestJournalSizeTest {
+    @Test
+    @DisplayName("Test classes should publish the request journal size of each server after each test")
+    void successOnPublishingRequestJournalSizes() {
+        // when
+        final var results = EngineTests.engine()
+                .selectors(selectClass(JournaledTest.class))
+                .execute();
+
+        // then
+        results.testEvents().assertStatistics(stats -> stats.succeeded(1));
+        final var reportEntries = results.allEvents()
+                .reportingEntryPublished()
+                .stream()
+                .map(event -> event.getRequiredPayload(ReportEntry.class))
+                .flatMap(reportEntry -> reportEntry.getKeyValuePairs().entrySet().stream())
+                .filter(entry -> entry.getKey().endsWith(".request-journal-size"))
+                .map(entry -> Map.entry(entry.getKey(), entry.getValue()))
+                .toList();
+        assertThat(reportEntries).containsExactly(entry("wiremock.journaled-service.request-journal-size", "2"));
+    }
+
+    @EngineTests.Only
+    @MicronautWireMockTest({
+            @ConfigureWireMock(name = "journaled-service", properties = "journaled-service.url"),
+            @ConfigureWireMock(
+                    name = "unjournaled-service",
+                    properties = "unjournaled-service.url",
+                    requestJournalDisabled = true
+            )
+    })
+    static class JournaledTest {
+        @Inject
+        private HttpClient httpClient;
+
+        @InjectWireMock("journaled-service")
+        private WireMockServer server;
+
+        @Test
+        void successOnSendingRequests() {
+            server.stubFor(get("/users").willReturn(ok()));
+            httpClient.toBlocking().exchange(server.baseUrl() + "/users");
+            httpClient.toBlocking().exchange(server.baseUrl() + "/users");
+        }
+    }
+}
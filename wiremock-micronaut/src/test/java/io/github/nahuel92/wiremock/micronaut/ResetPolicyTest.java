@@ -0,0 +1,187 @@
+package io.github.nahuel92.wiremock.micronaut;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import io.micronaut.http.client.HttpClient;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.ok;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Servers named {@code reset-policy-service} load a single stub, {@code GET /users/1}, from the classpath.
+ */
+public class ResetPolicyTest {
+    private static final String FILE_STUB_URL = "/users/1";
+
+    @MicronautWireMockTest(@ConfigureWireMock(
+            name = "reset-policy-service",
+            properties = "reset-policy-service.url",
+            reset = ResetPolicy.PROGRAMMATIC
+    ))
+    @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+    @Nested
+    class ProgrammaticTest {
+        @Inject
+        private HttpClient httpClient;
+
+        @InjectWireMock("reset-policy-service")
+        private WireMockServer server;
+
+        @Test
+        @Order(1)
+        @DisplayName("PROGRAMMATIC should let tests add stubs and edit the ones loaded from files")
+        void successOnChangingStubs() {
+            // when
+            server.stubFor(get("/todos").willReturn(ok()));
+            server.editStub(get(FILE_STUB_URL).withId(fileStubOf(server).getId()).willReturn(ok("edited")));
+
+            // then
+            assertThat(httpClient.toBlocking().retrieve(server.baseUrl() + FILE_STUB_URL)).isEqualTo("edited");
+        }
+
+        @Test
+        @Order(2)
+        @DisplayName("PROGRAMMATIC should restore the stubs loaded from files and clear the request journal")
+        void successOnRestoringFileStubsAndClearingJournal() {
+            assertThat(server.getStubMappings()).singleElement().satisfies(ResetPolicyTest::assertIsFileStub);
+            assertThat(server.getAllServeEvents()).isEmpty();
+            assertThat(httpClient.toBlocking().retrieve(server.baseUrl() + FILE_STUB_URL)).isEqualTo("Jenna");
+        }
+    }
+
+    @MicronautWireMockTest(@ConfigureWireMock(
+            name = "reset-policy-service",
+            properties = "reset-policy-service.url",
+            reset = ResetPolicy.PROGRAMMATIC_STUBS
+    ))
+    @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+    @Nested
+    class ProgrammaticStubsTest {
+        @Inject
+        private HttpClient httpClient;
+
+        @InjectWireMock("reset-policy-service")
+        private WireMockServer server;
+
+        @Test
+        @Order(1)
+        @DisplayName("PROGRAMMATIC_STUBS should let tests add stubs and remove the ones loaded from files")
+        void successOnChangingStubs() {
+            // given
+            httpClient.toBlocking().retrieve(server.baseUrl() + FILE_STUB_URL);
+
+            // when
+            server.stubFor(get("/todos").willReturn(ok()));
+            server.removeStub(fileStubOf(server));
+
+            // then
+            assertThat(server.getStubMappings()).singleElement()
+                    .satisfies(stub -> assertThat(stub.getRequest().getUrl()).isEqualTo("/todos"));
+        }
+
+        @Test
+        @Order(2)
+        @DisplayName("PROGRAMMATIC_STUBS should restore the stubs loaded from files and keep the request journal")
+        void successOnRestoringFileStubsAndKeepingJournal() {
+            assertThat(server.getStubMappings()).singleElement().satisfies(ResetPolicyTest::assertIsFileStub);
+            assertThat(server.getAllServeEvents()).singleElement()
+                    .satisfies(event -> assertThat(event.getRequest().getUrl()).isEqualTo(FILE_STUB_URL));
+        }
+    }
+
+    @MicronautWireMockTest(@ConfigureWireMock(
+            name = "reset-policy-service",
+            properties = "reset-policy-service.url",
+            reset = ResetPolicy.REQUESTS
+    ))
+    @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+    @Nested
+    class RequestsTest {
+        @Inject
+        private HttpClient httpClient;
+
+        @InjectWireMock("reset-policy-service")
+        private WireMockServer server;
+
+        @Test
+        @Order(1)
+        @DisplayName("REQUESTS should let tests add stubs and send requests")
+        void successOnAddingStubsAndSendingRequests() {
+            // when
+            server.stubFor(get("/todos").willReturn(ok()));
+            httpClient.toBlocking().retrieve(server.baseUrl() + "/todos");
+
+            // then
+            assertThat(server.getAllServeEvents()).hasSize(1);
+        }
+
+        @Test
+        @Order(2)
+        @DisplayName("REQUESTS should keep every stub and clear the request journal")
+        void successOnKeepingStubsAndClearingJournal() {
+            assertThat(server.getStubMappings())
+                    .extracting(stub -> stub.getRequest().getUrl())
+                    .containsExactlyInAnyOrder(FILE_STUB_URL, "/todos");
+            assertThat(server.getAllServeEvents()).isEmpty();
+        }
+    }
+
+    @MicronautWireMockTest(@ConfigureWireMock(
+            name = "reset-policy-service",
+            properties = "reset-policy-service.url",
+            reset = ResetPolicy.NONE
+    ))
+    @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+    @Nested
+    class NoneTest {
+        @Inject
+        private HttpClient httpClient;
+
+        @InjectWireMock("reset-policy-service")
+        private WireMockServer server;
+
+        @Test
+        @Order(1)
+        @DisplayName("NONE should let tests add stubs and send requests")
+        void successOnAddingStubsAndSendingRequests() {
+            // when
+            server.stubFor(get("/todos").willReturn(ok()));
+            httpClient.toBlocking().retrieve(server.baseUrl() + "/todos");
+
+            // then
+            assertThat(server.getAllServeEvents()).hasSize(1);
+        }
+
+        @Test
+        @Order(2)
+        @DisplayName("NONE should keep every stub and the request journal")
+        void successOnKeepingEverything() {
+            assertThat(server.getStubMappings())
+                    .extracting(stub -> stub.getRequest().getUrl())
+                    .containsExactlyInAnyOrder(FILE_STUB_URL, "/todos");
+            assertThat(server.getAllServeEvents()).singleElement()
+                    .satisfies(event -> assertThat(event.getRequest().getUrl()).isEqualTo("/todos"));
+        }
+    }
+
+    private static StubMapping fileStubOf(final WireMockServer server) {
+        return server.getStubMappings()
+                .stream()
+                .filter(stub -> FILE_STUB_URL.equals(stub.getRequest().getUrl()))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static void assertIsFileStub(final StubMapping stub) {
+        assertThat(stub.getRequest().getUrl()).isEqualTo(FILE_STUB_URL);
+        assertThat(stub.getResponse().getBody()).isEqualTo("Jenna");
+    }
+}
@@ -0,0 +1,68 @@
+package io.github.nahuel92.wiremock.micronaut;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.ok;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@MicronautWireMockTest({
+        @ConfigureWireMock(
+                name = "slow-service",
+                properties = "slow-service.url",
+                latency = @Latency(distribution = LatencyDistribution.FIXED, millis = ResponseProfileTest.LATENCY_MILLIS)
+        ),
+        @ConfigureWireMock(name = "faulty-service", properties = "faulty-service.url", faults = @Faults(rate = 1))
+})
+class ResponseProfileTest {
+    static final int LATENCY_MILLIS = 300;
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    @InjectWireMock("slow-service")
+    private WireMockServer slowService;
+
+    @InjectWireMock("faulty-service")
+    private WireMockServer faultyService;
+
+    @Test
+    @DisplayName("WireMock should delay every response by the latency declared on @ConfigureWireMock")
+    void successOnDelayingResponses() throws IOException, InterruptedException {
+        // given
+        slowService.stubFor(get("/users").willReturn(ok()));
+
+        // when
+        final var start = System.nanoTime();
+        final var response = send(slowService, "/users");
+        final var elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        // then
+        assertThat(response.statusCode()).isEqualTo(200);
+        assertThat(elapsed).isGreaterThanOrEqualTo(Duration.ofMillis(LATENCY_MILLIS));
+    }
+
+    @Test
+    @DisplayName("WireMock should inject faults in responses at the rate declared on @ConfigureWireMock")
+    void successOnInjectingFaults() {
+        // given
+        faultyService.stubFor(get("/users").willReturn(ok()));
+
+        // expect
+        assertThatThrownBy(() -> send(faultyService, "/users")).isInstanceOf(IOException.class);
+    }
+
+    private HttpResponse<Void> send(final WireMockServer server, final String path)
+            throws IOException, InterruptedException {
+        final var request = HttpRequest.newBuilder(URI.create(server.baseUrl() + path)).build();
+        return httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+    }
+}
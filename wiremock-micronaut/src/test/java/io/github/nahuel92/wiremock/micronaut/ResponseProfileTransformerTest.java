@@ -0,0 +1,192 @@
+package io.github.nahuel92.wiremock.micronaut;
+
+import com.github.tomakehurst.wiremock.http.Fault;
+import com.github.tomakehurst.wiremock.http.LogNormal;
+import com.github.tomakehurst.wiremock.http.ResponseDefinition;
+import com.github.tomakehurst.wiremock.http.UniformDistribution;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.IntStream;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ResponseProfileTransformerTest {
+    private static final int SAMPLES = 10_000;
+
+    @Test
+    @DisplayName("UNIFORM latency should delay responses by a value between the lower and upper bounds")
+    void successOnAddingUniformLatency() {
+        // when
+        final var response = transform(UniformLatency.class, aResponse().build());
+
+        // then
+        assertThat(response.getDelayDistribution()).isInstanceOf(UniformDistribution.class);
+        assertThat(IntStream.range(0, SAMPLES).mapToLong(i -> response.getDelayDistribution().sampleMillis()))
+                .allSatisfy(delay -> assertThat(delay).isBetween(100L, 200L));
+    }
+
+    @Test
+    @DisplayName("LOGNORMAL latency should delay responses by values centered around the median")
+    void successOnAddingLognormalLatency() {
+        // when
+        final var response = transform(LognormalLatency.class, aResponse().build());
+
+        // then
+        assertThat(response.getDelayDistribution()).isInstanceOf(LogNormal.class);
+        final var delays = IntStream.range(0, SAMPLES)
+                .mapToLong(i -> response.getDelayDistribution().sampleMillis())
+                .sorted()
+                .toArray();
+        assertThat(delays[0]).isNotNegative();
+        assertThat(delays[SAMPLES / 2]).isBetween(80L, 120L);
+    }
+
+    @Test
+    @DisplayName("Chunked latency should dribble response bodies over the declared duration")
+    void successOnAddingChunkedDribbleDelay() {
+        // when
+        final var response = transform(ChunkedLatency.class, aResponse().build());
+
+        // then
+        assertThat(response.getChunkedDribbleDelay()).satisfies(delay -> {
+            assertThat(delay.getNumberOfChunks()).isEqualTo(5);
+            assertThat(delay.getTotalDuration()).isEqualTo(500);
+        });
+        assertThat(response.getDelayDistribution()).isNull();
+    }
+
+    @Test
+    @DisplayName("Faults should replace roughly the declared share of responses")
+    void successOnInjectingFaultsAtFractionalRate() {
+        // given
+        final var transformer = transformerOf(FractionalFaults.class);
+
+        // when
+        final var faults = IntStream.range(0, SAMPLES)
+                .mapToObj(i -> transformer.transform(serveEventOf(aResponse().build())))
+                .filter(response -> response.getFault() == Fault.EMPTY_RESPONSE)
+                .count();
+
+        // then
+        assertThat(faults).isBetween((long) (SAMPLES * 0.2), (long) (SAMPLES * 0.3));
+    }
+
+    @Test
+    @DisplayName("Stubs declaring their own delay, chunked dribble delay or fault should keep them")
+    void successOnKeepingStubDelaysAndFaults() {
+        // when
+        final var delayed = transform(FullProfile.class, aResponse().withFixedDelay(50).build());
+        final var dribbled = transform(FullProfile.class, aResponse().withChunkedDribbleDelay(2, 100).build());
+        final var faulty = transform(
+                FaultyProfile.class, aResponse().withFault(Fault.MALFORMED_RESPONSE_CHUNK).build()
+        );
+
+        // then
+        assertThat(delayed.getFixedDelayMilliseconds()).isEqualTo(50);
+        assertThat(delayed.getDelayDistribution()).isNull();
+        assertThat(dribbled.getChunkedDribbleDelay().getNumberOfChunks()).isEqualTo(2);
+        assertThat(dribbled.getChunkedDribbleDelay().getTotalDuration()).isEqualTo(100);
+        assertThat(faulty.getFault()).isEqualTo(Fault.MALFORMED_RESPONSE_CHUNK);
+    }
+
+    @Test
+    @DisplayName("Invalid latencies and fault rates should be rejected")
+    void failureOnCreatingTransformerWithInvalidSettings() {
+        assertThatThrownBy(() -> transformerOf(OutOfRangeFaultRate.class))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Fault rate must be between 0 and 1, but was 1.5");
+        assertThatThrownBy(() -> transformerOf(NegativeChunks.class))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Chunks and chunked duration can't be negative");
+        assertThatThrownBy(() -> transformerOf(NegativeFixedLatency.class))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Fixed latency can't be negative");
+        assertThatThrownBy(() -> transformerOf(InvertedUniformBounds.class))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Uniform latency bounds must satisfy 0 <= lower <= upper, but were 200 and 100");
+        assertThatThrownBy(() -> transformerOf(ZeroLognormalMedian.class))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Lognormal latency needs a positive median and a non-negative sigma");
+    }
+
+    private static ResponseDefinition transform(final Class<?> holder, final ResponseDefinition responseDefinition) {
+        return transformerOf(holder).transform(serveEventOf(responseDefinition));
+    }
+
+    private static ResponseProfileTransformer transformerOf(final Class<?> holder) {
+        final var options = holder.getAnnotation(ConfigureWireMock.class);
+        return new ResponseProfileTransformer(options.latency(), options.faults());
+    }
+
+    private static ServeEvent serveEventOf(final ResponseDefinition responseDefinition) {
+        return ServeEvent.forAnonymousResponseDefinition(responseDefinition);
+    }
+
+    @ConfigureWireMock(
+            name = "uniform-service",
+            latency = @Latency(distribution = LatencyDistribution.UNIFORM, lower = 100, upper = 200)
+    )
+    private static class UniformLatency {
+    }
+
+    @ConfigureWireMock(
+            name = "lognormal-service",
+            latency = @Latency(distribution = LatencyDistribution.LOGNORMAL, median = 100, sigma = 0.1)
+    )
+    private static class LognormalLatency {
+    }
+
+    @ConfigureWireMock(name = "chunked-service", latency = @Latency(chunks = 5, chunkedDuration = 500))
+    private static class ChunkedLatency {
+    }
+
+    @ConfigureWireMock(
+            name = "fractional-faults-service",
+            faults = @Faults(rate = 0.25, value = Fault.EMPTY_RESPONSE)
+    )
+    private static class FractionalFaults {
+    }
+
+    @ConfigureWireMock(
+            name = "full-profile-service",
+            latency = @Latency(
+                    distribution = LatencyDistribution.FIXED, millis = 300, chunks = 5, chunkedDuration = 500
+            )
+    )
+    private static class FullProfile {
+    }
+
+    @ConfigureWireMock(name = "faulty-profile-service", faults = @Faults(rate = 1))
+    private static class FaultyProfile {
+    }
+
+    @ConfigureWireMock(name = "out-of-range-service", faults = @Faults(rate = 1.5))
+    private static class OutOfRangeFaultRate {
+    }
+
+    @ConfigureWireMock(name = "negative-chunks-service", latency = @Latency(chunks = -1))
+    private static class NegativeChunks {
+    }
+
+    @ConfigureWireMock(
+            name = "negative-fixed-service",
+            latency = @Latency(distribution = LatencyDistribution.FIXED, millis = -1)
+    )
+    private static class NegativeFixedLatency {
+    }
+
+    @ConfigureWireMock(
+            name = "inverted-uniform-service",
+            latency = @Latency(distribution = LatencyDistribution.UNIFORM, lower = 200, upper = 100)
+    )
+    private static class InvertedUniformBounds {
+    }
+
+    @ConfigureWireMock(name = "zero-median-service", latency = @Latency(distribution = LatencyDistribution.LOGNORMAL))
+    private static class ZeroLognormalMedian {
+    }
+}
@@ -0,0 +1,115 @@
+package io.github.nahuel92.wiremock.micronaut;
+
+import com.github.tomakehurst.wiremock.core.WireMockConfiguration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@MicronautWireMockTest({
+        @ConfigureWireMock(
+                name = "user-service",
+                properties = "user-service.url",
+                configurationCustomizers = {
+                        ReusableCustomizerTest.ReusableCustomizer.class,
+                        ReusableCustomizerTest.PerServerCustomizer.class
+                }
+        ),
+        @ConfigureWireMock(
+                name = "todo-service",
+                properties = "todo-service.url",
+                configurationCustomizers = {
+                        ReusableCustomizerTest.ReusableCustomizer.class,
+                        ReusableCustomizerTest.PerServerCustomizer.class
+                }
+        )
+})
+class ReusableCustomizerTest {
+    @Test
+    @DisplayName("Customizers annotated with @Reusable should be instantiated once and shared by every server")
+    void successOnSharingReusableCustomizers() {
+        assertThat(ReusableCustomizer.INSTANCES).hasValue(1);
+        assertThat(ReusableCustomizer.CUSTOMIZED).containsExactlyInAnyOrder("user-service", "todo-service");
+    }
+
+    @Test
+    @DisplayName("Customizers without @Reusable should be instantiated once per server")
+    void successOnCreatingPerServerCustomizers() {
+        assertThat(PerServerCustomizer.INSTANCES).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("Customizers annotated with @Reusable should be instantiated once even when first requested concurrently")
+    void successOnSharingReusableCustomizersRequestedConcurrently() throws Exception {
+        // given
+        final var threads = 16;
+        final var barrier = new CyclicBarrier(threads);
+        final var futures = new ArrayList<Future<WireMockConfigurationCustomizer>>();
+
+        // when
+        try (final var executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    barrier.await(10, TimeUnit.SECONDS);
+                    return MethodHandleUtils.getCustomizer(ConcurrentlyRequestedCustomizer.class);
+                }));
+            }
+        }
+
+        // then
+        final var first = futures.getFirst().get();
+        for (final var future : futures) {
+            assertThat(future.get()).isSameAs(first);
+        }
+        assertThat(ConcurrentlyRequestedCustomizer.INSTANCES).hasValue(1);
+    }
+
+    @Reusable
+    static class ReusableCustomizer implements WireMockConfigurationCustomizer {
+        private static final AtomicInteger INSTANCES = new AtomicInteger();
+        private static final Set<String> CUSTOMIZED = ConcurrentHashMap.newKeySet();
+
+        ReusableCustomizer() {
+            INSTANCES.incrementAndGet();
+        }
+
+        @Override
+        public void customize(final WireMockConfiguration configuration, final ConfigureWireMock options) {
+            CUSTOMIZED.add(options.name());
+        }
+    }
+
+    static class PerServerCustomizer implements WireMockConfigurationCustomizer {
+        private static final AtomicInteger INSTANCES = new AtomicInteger();
+
+        PerServerCustomizer() {
+            INSTANCES.incrementAndGet();
+        }
+
+        @Override
+        public void customize(final WireMockConfiguration configuration, final ConfigureWireMock options) {
+        }
+    }
+
+    @Reusable
+    static class ConcurrentlyRequestedCustomizer implements WireMockConfigurationCustomizer {
+        private static final AtomicInteger INSTANCES = new AtomicInteger();
+
+        ConcurrentlyRequestedCustomizer() {
+            INSTANCES.incrementAndGet();
+        }
+
+        @Override
+        public void customize(final WireMockConfiguration configuration, final ConfigureWireMock options) {
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package io.github.nahuel92.wiremock.micronaut;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ServerFingerprintTest {
+    @Test
+    @DisplayName("Configurations only differing by Micronaut-side attributes should have equal fingerprints")
+    void successOnIgnoringMicronautSideAttributes() {
+        // when
+        final var fingerprint = ServerFingerprint.of(configurationOf(DefaultServer.class));
+        final var otherFingerprint = ServerFingerprint.of(configurationOf(OtherPropertiesServer.class));
+
+        // then
+        assertThat(fingerprint).isEqualTo(otherFingerprint);
+    }
+
+    @Test
+    @DisplayName("Configurations differing by Jetty attributes should have different fingerprints")
+    void successOnTellingApartJettySettings() {
+        // when
+        final var fingerprint = ServerFingerprint.of(configurationOf(DefaultServer.class));
+
+        // then
+        assertThat(fingerprint)
+                .isNotEqualTo(ServerFingerprint.of(configurationOf(TunedThreadsServer.class)))
+                .isNotEqualTo(ServerFingerprint.of(configurationOf(TunedHeadersServer.class)))
+                .isNotEqualTo(ServerFingerprint.of(configurationOf(LoadTestProfileServer.class)));
+    }
+
+    private static ConfigureWireMock configurationOf(final Class<?> testClass) {
+        return testClass.getAnnotation(MicronautWireMockTest.class).value()[0];
+    }
+
+    @MicronautWireMockTest(@ConfigureWireMock(name = "fingerprinted-service", properties = "fingerprinted.url"))
+    private static class DefaultServer {
+    }
+
+    @MicronautWireMockTest(@ConfigureWireMock(
+            name = "fingerprinted-service",
+            properties = "other.url",
+            pooled = true,
+            reset = ResetPolicy.NONE
+    ))
+    private static class OtherPropertiesServer {
+    }
+
+    @MicronautWireMockTest(@ConfigureWireMock(
+            name = "fingerprinted-service",
+            properties = "fingerprinted.url",
+            containerThreads = 42,
+            jettyAcceptors = 3
+    ))
+    private static class TunedThreadsServer {
+    }
+
+    @MicronautWireMockTest(@ConfigureWireMock(
+            name = "fingerprinted-service",
+            properties = "fingerprinted.url",
+            jettyHeaderRequestSize = 16_384
+    ))
+    private static class TunedHeadersServer {
+    }
+
+    @MicronautWireMockTest(@ConfigureWireMock(
+            name = "fingerprinted-service",
+            properties = "fingerprinted.url",
+            profile = PerformanceProfile.LOAD_TEST
+    ))
+    private static class LoadTestProfileServer {
+    }
+}
@@ -0,0 +1,81 @@
+package io.github.nahuel92.wiremock.micronaut;
+
+import com.github.tomakehurst.wiremock.common.SingleRootFileSource;
+import com.github.tomakehurst.wiremock.store.FileSourceBlobStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SharedDescriptorBlobStoreTest {
+    @TempDir
+    private Path root;
+
+    @Test
+    @DisplayName("gRPC descriptors with the same content should be shared by every server")
+    void successOnSharingDescriptors() throws IOException {
+        // given
+        Files.write(Files.createDirectories(root.resolve("first")).resolve("greeter.dsc"), new byte[]{1, 2, 3});
+        Files.write(Files.createDirectories(root.resolve("second")).resolve("greeter.dsc"), new byte[]{1, 2, 3});
+
+        // when
+        final var first = blobStoreOf("first").get("greeter.dsc").orElseThrow();
+        final var firstAgain = blobStoreOf("first").get("greeter.dsc").orElseThrow();
+        final var second = blobStoreOf("second").get("greeter.dsc").orElseThrow();
+
+        // then
+        assertThat(first).containsExactly(1, 2, 3).isSameAs(firstAgain).isSameAs(second);
+    }
+
+    @Test
+    @DisplayName("gRPC descriptors should be read again once they change")
+    void successOnReadingChangedDescriptors() throws IOException {
+        // given
+        final var descriptor = Files.write(root.resolve("greeter.dsc"), new byte[]{1, 2, 3});
+        final var blobStore = new SharedDescriptorBlobStore(
+                new FileSourceBlobStore(new SingleRootFileSource(root.toFile())), new SingleRootFileSource(root.toFile())
+        );
+        blobStore.get("greeter.dsc");
+
+        // when
+        Files.write(descriptor, new byte[]{4, 5, 6, 7});
+
+        // then
+        assertThat(blobStore.get("greeter.dsc"))
+                .hasValueSatisfying(content -> assertThat(content).containsExactly(4, 5, 6, 7));
+    }
+
+    @Test
+    @DisplayName("Outdated copies of changed gRPC descriptors should be dropped")
+    void successOnDroppingOutdatedDescriptors() throws IOException {
+        // given
+        final var descriptor = Files.write(root.resolve("greeter.dsc"), new byte[]{1});
+        final var blobStore = blobStoreOf(".");
+        blobStore.get("greeter.dsc");
+        final var sharedContents = SharedDescriptorBlobStore.sharedContentCount();
+
+        // when
+        for (int i = 2; i <= 5; i++) {
+            final var content = new byte[i];
+            Arrays.fill(content, (byte) i);
+            Files.write(descriptor, content);
+            blobStore.get("greeter.dsc");
+        }
+
+        // then
+        assertThat(SharedDescriptorBlobStore.sharedContentCount()).isEqualTo(sharedContents);
+        assertThat(blobStore.get("greeter.dsc"))
+                .hasValueSatisfying(content -> assertThat(content).containsExactly(5, 5, 5, 5, 5));
+    }
+
+    private SharedDescriptorBlobStore blobStoreOf(final String directory) {
+        final var fileSource = new SingleRootFileSource(root.resolve(directory).toFile());
+        return new SharedDescriptorBlobStore(new FileSourceBlobStore(fileSource), fileSource);
+    }
+}
@@ -0,0 +1,67 @@
+package io.github.nahuel92.wiremock.micronaut;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.matching.RequestPattern;
+import com.github.tomakehurst.wiremock.stubbing.StubMapping;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.ok;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@MicronautWireMockTest(
+        @ConfigureWireMock(name = "user-service", properties = "user-service.url", reset = ResetPolicy.SNAPSHOT)
+)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class SnapshotResetTest {
+    private static final int BASELINE_STUBS = 100;
+
+    @InjectWireMock("user-service")
+    private WireMockServer server;
+
+    @BeforeAll
+    static void stubBaseline() {
+        for (int i = 0; i < BASELINE_STUBS; i++) {
+            stubFor(get("/users/" + i).willReturn(ok("user " + i)));
+        }
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("WireMock should keep the stubs registered in @BeforeAll methods when resetting to a snapshot")
+    void successOnKeepingBaselineStubs() {
+        // given
+        final var stubs = server.getStubMappings();
+        final var editedStub = stubs.getFirst();
+        final var removedStub = stubs.getLast();
+
+        // when
+        server.stubFor(get("/todos").willReturn(ok()));
+        server.editStub(get(editedStub.getRequest().getUrl()).withId(editedStub.getId()).willReturn(ok("edited")));
+        server.removeStub(removedStub);
+
+        // then
+        assertThat(stubs).hasSize(BASELINE_STUBS);
+        assertThat(server.getStubMappings()).hasSize(BASELINE_STUBS);
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("WireMock should restore stubs added, edited or removed by previous tests when resetting to a snapshot")
+    void successOnRestoringSnapshot() {
+        assertThat(server.getStubMappings())
+                .hasSize(BASELINE_STUBS)
+                .extracting(StubMapping::getRequest)
+                .extracting(RequestPattern::getUrl)
+                .doesNotContain("/todos");
+        assertThat(server.getStubMappings())
+                .extracting(stub -> stub.getResponse().getBody())
+                .doesNotContain("edited");
+    }
+}
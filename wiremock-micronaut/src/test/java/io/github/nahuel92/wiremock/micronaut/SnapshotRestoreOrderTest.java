@@ -0,0 +1,68 @@
+package io.github.nahuel92.wiremock.micronaut;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.ok;
+import static com.github.tomakehurst.wiremock.client.WireMock.stubFor;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@MicronautWireMockTest(
+        @ConfigureWireMock(name = "user-service", properties = "user-service.url", reset = ResetPolicy.SNAPSHOT)
+)
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+class SnapshotRestoreOrderTest {
+    @InjectWireMock("user-service")
+    private WireMockServer server;
+
+    @BeforeAll
+    static void stubBaseline() {
+        stubFor(get("/users/1").willReturn(ok("older")));
+        stubFor(get("/users/1").willReturn(ok("newer")));
+    }
+
+    @Test
+    @Order(1)
+    @DisplayName("WireMock should match the newest of overlapping stubs with the same priority")
+    void successOnRemovingOlderOverlappingStub() throws Exception {
+        // given
+        final var olderStub = server.getStubMappings()
+                .stream()
+                .filter(stub -> stub.getResponse().getBody().equals("older"))
+                .findFirst()
+                .orElseThrow();
+
+        // when
+        server.removeStub(olderStub);
+
+        // then
+        assertThat(body("/users/1")).isEqualTo("newer");
+    }
+
+    @Test
+    @Order(2)
+    @DisplayName("WireMock should restore removed stubs in their original matching order when resetting to a snapshot")
+    void successOnRestoringMatchingOrder() throws Exception {
+        assertThat(server.getStubMappings()).hasSize(2);
+        assertThat(body("/users/1")).isEqualTo("newer");
+    }
+
+    private String body(final String path) throws IOException, InterruptedException {
+        try (final var httpClient = HttpClient.newHttpClient()) {
+            final var request = HttpRequest.newBuilder(URI.create(server.baseUrl() + path)).build();
+            return httpClient.send(request, HttpResponse.BodyHandlers.ofString()).body();
+        }
+    }
+}
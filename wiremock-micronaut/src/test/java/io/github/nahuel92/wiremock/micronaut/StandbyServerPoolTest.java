@@ -0,0 +1,120 @@
+package io.github.nahuel92.wiremock.micronaut;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.platform.engine.discovery.DiscoverySelectors.selectClass;
+
+class StandbyServerPoolTest {
+    private final StandbyServerPool standbyPool = new StandbyServerPool(1);
+
+    @AfterEach
+    void tearDown() {
+        standbyPool.close();
+    }
+
+    @Test
+    @DisplayName("Standby servers should be handed out to configurations only differing from the defaults by name")
+    void successOnTakingStandbyServer() throws InterruptedException {
+        // when
+        final var server = awaitStandbyServer(optionsOf(GenericServer.class));
+
+        // then
+        try {
+            assertThat(server.isRunning()).isTrue();
+            assertThat(server.getStubMappings()).isEmpty();
+        } finally {
+            server.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("Standby servers should not be handed out to configurations with custom server settings")
+    void successOnSkippingCustomConfigurations() throws InterruptedException {
+        // given
+        awaitStandbyServer(optionsOf(GenericServer.class)).stop();
+        awaitIdleStandbyServer();  // Replacement for the server taken above.
+
+        // expect
+        assertThat(standbyPool.take(optionsOf(CustomServer.class))).isNull();
+        assertThat(standbyPool.idleCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Test classes should use standby servers when the standby pool is enabled")
+    void successOnRunningTestClassWithStandbyPool() {
+        // when
+        final var results = EngineTests.engine()
+                .configurationParameter(StandbyServerPool.SIZE_PARAMETER, "2")
+                .selectors(selectClass(StandbyTest.class))
+                .execute();
+
+        // then
+        results.testEvents().assertStatistics(stats -> stats.succeeded(1));
+    }
+
+    @Test
+    @DisplayName("Test classes should start their own servers when the standby pool is disabled")
+    void successOnRunningTestClassWithoutStandbyPool() {
+        // when
+        final var results = EngineTests.engine()
+                .selectors(selectClass(StandbyTest.class))
+                .execute();
+
+        // then
+        results.testEvents().assertStatistics(stats -> stats.failed(1));
+    }
+
+    private WireMockServer awaitStandbyServer(final ConfigureWireMock options) throws InterruptedException {
+        final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (System.nanoTime() < deadline) {
+            final var server = standbyPool.take(options);
+            if (server != null) {
+                return server;
+            }
+            Thread.sleep(10);
+        }
+        throw new AssertionError("No standby server was started");
+    }
+
+    private void awaitIdleStandbyServer() throws InterruptedException {
+        final var deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (standbyPool.idleCount() == 0) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("No standby server was started");
+            }
+            Thread.sleep(10);
+        }
+    }
+
+    private static ConfigureWireMock optionsOf(final Class<?> type) {
+        return type.getAnnotation(ConfigureWireMock.class);
+    }
+
+    @ConfigureWireMock(name = "generic-service", properties = "generic-service.url")
+    private static class GenericServer {
+    }
+
+    @ConfigureWireMock(name = "custom-service", properties = "custom-service.url", notifier = NotifierMode.OFF)
+    private static class CustomServer {
+    }
+
+    @EngineTests.Only
+    @MicronautWireMockTest(@ConfigureWireMock(name = "standby-service", properties = "standby-service.url"))
+    static class StandbyTest {
+        @InjectWireMock("standby-service")
+        private WireMockServer server;
+
+        @Test
+        void successOnInjectingStandbyServer() {
+            assertThat(server.isRunning()).isTrue();
+            // Standby servers are configured from their own template, named after the pool.
+            assertThat(server.getOptions().filesRoot().getPath()).contains("wiremock-micronaut-standby");
+        }
+    }
+}
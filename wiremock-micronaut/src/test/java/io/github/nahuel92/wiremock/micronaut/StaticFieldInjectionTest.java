@@ -0,0 +1,29 @@
+package io.github.nahuel92.wiremock.micronaut;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import io.micronaut.context.env.Environment;
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@MicronautWireMockTest(
+        @ConfigureWireMock(name = "user-service", properties = "user-service.url", portProperty = "user-service.port")
+)
+class StaticFieldInjectionTest {
+    @InjectWireMock("user-service")
+    private static WireMockServer userServiceWireMockServer;
+
+    @Inject
+    private Environment environment;
+
+    @Test
+    @DisplayName("WireMock should be available when injected as a static class field")
+    void successOnInjectingStaticField() {
+        CommonAssertions.assertWireMockServerIsConfigured(
+                userServiceWireMockServer,
+                environment,
+                "user-service.url",
+                "user-service.port"
+        );
+    }
+}
@@ -0,0 +1,75 @@
+package io.github.nahuel92.wiremock.micronaut;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.extension.Parameters;
+import com.github.tomakehurst.wiremock.extension.ServeEventListener;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.ok;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@MicronautWireMockTest(@ConfigureWireMock(
+        name = "user-service",
+        properties = "user-service.url",
+        virtualThreads = true,
+        containerThreads = 10,
+        extensions = VirtualThreadsTest.HandlerThreadListener.class
+))
+class VirtualThreadsTest {
+    private static final int CONCURRENT_REQUESTS = 50;
+    private static final int DELAY_MILLIS = 1000;
+
+    @InjectWireMock("user-service")
+    private WireMockServer server;
+
+    @Test
+    @DisplayName("WireMock should handle requests in virtual threads when enabled")
+    void successOnHandlingRequestsInVirtualThreads() {
+        // given
+        server.stubFor(get("/users").willReturn(ok().withFixedDelay(DELAY_MILLIS)));
+        final var request = HttpRequest.newBuilder(URI.create(server.baseUrl() + "/users")).build();
+        final var responses = new ArrayList<CompletableFuture<HttpResponse<Void>>>();
+
+        // when
+        final var start = System.nanoTime();
+        try (final var httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build()) {
+            for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+                responses.add(httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding()));
+            }
+            responses.forEach(CompletableFuture::join);
+        }
+        final var elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        // then
+        assertThat(responses).allSatisfy(response -> assertThat(response.join().statusCode()).isEqualTo(200));
+        assertThat(HandlerThreadListener.VIRTUAL.get()).isTrue();
+        // Ten container threads would need five rounds of delayed responses.
+        assertThat(elapsed).isLessThan(Duration.ofMillis(DELAY_MILLIS * 4L));
+    }
+
+    public static class HandlerThreadListener implements ServeEventListener {
+        private static final AtomicBoolean VIRTUAL = new AtomicBoolean();
+
+        @Override
+        public void beforeMatch(final ServeEvent serveEvent, final Parameters parameters) {
+            VIRTUAL.set(Thread.currentThread().isVirtual());
+        }
+
+        @Override
+        public String getName() {
+            return "handler-thread-listener";
+        }
+    }
+}
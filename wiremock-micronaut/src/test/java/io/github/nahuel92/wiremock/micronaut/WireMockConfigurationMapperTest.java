@@ -0,0 +1,174 @@
+package io.github.nahuel92.wiremock.micronaut;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WireMockConfigurationMapperTest {
+    @Test
+    @DisplayName("Jetty and request journal attributes should be mapped to the server configuration")
+    void successOnMappingJettyAndJournalAttributes() {
+        // when
+        final var serverOptions = WireMockConfigurationMapper.from(configurationOf(ExplicitSettings.class));
+
+        // then
+        assertThat(serverOptions.containerThreads()).isEqualTo(42);
+        assertThat(serverOptions.jettySettings().getAcceptors()).hasValue(3);
+        assertThat(serverOptions.jettySettings().getRequestHeaderSize()).hasValue(16_384);
+        assertThat(serverOptions.jettySettings().getResponseHeaderSize()).hasValue(32_768);
+        assertThat(serverOptions.asynchronousResponseSettings().isEnabled()).isTrue();
+        assertThat(serverOptions.asynchronousResponseSettings().getThreads()).isEqualTo(7);
+        assertThat(serverOptions.getHttp2PlainDisabled()).isTrue();
+        assertThat(serverOptions.requestJournalDisabled()).isFalse();
+        assertThat(serverOptions.maxRequestJournalEntries()).hasValue(500);
+    }
+
+    @Test
+    @DisplayName("A disabled request journal should ignore the maximum number of entries")
+    void successOnDisablingRequestJournal() {
+        // when
+        final var serverOptions = WireMockConfigurationMapper.from(configurationOf(DisabledJournal.class));
+
+        // then
+        assertThat(serverOptions.requestJournalDisabled()).isTrue();
+        assertThat(serverOptions.maxRequestJournalEntries()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("The LOAD_TEST profile should tune Jetty and bound the request journal")
+    void successOnApplyingLoadTestProfile() {
+        // given
+        final var profile = PerformanceProfile.LOAD_TEST;
+
+        // when
+        final var serverOptions = WireMockConfigurationMapper.from(configurationOf(LoadTestProfile.class));
+
+        // then
+        assertThat(serverOptions.containerThreads()).isEqualTo(profile.containerThreads());
+        assertThat(serverOptions.jettySettings().getAcceptors()).hasValue(profile.jettyAcceptors());
+        assertThat(serverOptions.asynchronousResponseSettings().isEnabled()).isTrue();
+        assertThat(serverOptions.asynchronousResponseSettings().getThreads())
+                .isEqualTo(profile.asynchronousResponseThreads());
+        assertThat(serverOptions.maxRequestJournalEntries()).hasValue(profile.maxRequestJournalEntries());
+    }
+
+    @Test
+    @DisplayName("Explicit attributes should take precedence over the ones given by the profile")
+    void successOnOverridingProfileWithExplicitAttributes() {
+        // given
+        final var profile = PerformanceProfile.LOAD_TEST;
+
+        // when
+        final var serverOptions = WireMockConfigurationMapper.from(configurationOf(OverriddenLoadTestProfile.class));
+
+        // then
+        assertThat(serverOptions.containerThreads()).isEqualTo(24);
+        assertThat(serverOptions.jettySettings().getAcceptors()).hasValue(profile.jettyAcceptors());
+        assertThat(serverOptions.asynchronousResponseSettings().getThreads()).isEqualTo(2);
+        assertThat(serverOptions.maxRequestJournalEntries()).hasValue(100);
+    }
+
+    @Test
+    @DisplayName("The DEFAULT profile should keep WireMock defaults")
+    void successOnKeepingWireMockDefaults() {
+        // when
+        final var serverOptions = WireMockConfigurationMapper.from(configurationOf(DefaultSettings.class));
+
+        // then
+        assertThat(serverOptions.jettySettings().getAcceptors()).isEmpty();
+        assertThat(serverOptions.asynchronousResponseSettings().isEnabled()).isFalse();
+        assertThat(serverOptions.requestJournalDisabled()).isFalse();
+        assertThat(serverOptions.maxRequestJournalEntries()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Profiles should leave header sizes and HTTP/2 to the explicit attributes")
+    void successOnKeepingHeaderSizesOfProfile() {
+        // when
+        final var serverOptions = WireMockConfigurationMapper.from(configurationOf(LoadTestProfile.class));
+
+        // then
+        assertThat(serverOptions.jettySettings().getRequestHeaderSize()).isEmpty();
+        assertThat(serverOptions.jettySettings().getResponseHeaderSize()).isEmpty();
+        assertThat(serverOptions.getHttp2PlainDisabled()).isFalse();
+    }
+
+    @Test
+    @DisplayName("Recordings of classpath stubs should be written to the test resources they're copied from")
+    void successOnResolvingClasspathRecordingDirectory() {
+        // when
+        final var directory = WireMockConfigurationMapper.recordingDirectoryOf(configurationOf(RecordedClasspathStubs.class));
+
+        // then
+        assertThat(directory).isAbsolute()
+                .endsWith(Path.of("src", "test", "resources", "wiremock", "reset-policy-service"))
+                .isDirectory();
+    }
+
+    @Test
+    @DisplayName("Recordings of classpath stubs should be written to the test resources before the first recording")
+    void successOnResolvingMissingClasspathRecordingDirectory() {
+        // when
+        final var directory = WireMockConfigurationMapper.recordingDirectoryOf(configurationOf(FirstRecording.class));
+
+        // then
+        assertThat(directory).isAbsolute()
+                .endsWith(Path.of("src", "test", "resources", "wiremock", "first-recording-service"))
+                .doesNotExist();
+        assertThat(directory.getParent()).isDirectory();
+    }
+
+    private static ConfigureWireMock configurationOf(final Class<?> testClass) {
+        return testClass.getAnnotation(MicronautWireMockTest.class).value()[0];
+    }
+
+    @MicronautWireMockTest(@ConfigureWireMock(
+            name = "explicit-service",
+            containerThreads = 42,
+            jettyAcceptors = 3,
+            asynchronousResponseThreads = 7,
+            jettyHeaderRequestSize = 16_384,
+            jettyHeaderResponseSize = 32_768,
+            http2PlainDisabled = true,
+            maxRequestJournalEntries = 500
+    ))
+    private static class ExplicitSettings {
+    }
+
+    @MicronautWireMockTest(@ConfigureWireMock(
+            name = "disabled-journal-service",
+            requestJournalDisabled = true,
+            maxRequestJournalEntries = 500
+    ))
+    private static class DisabledJournal {
+    }
+
+    @MicronautWireMockTest(@ConfigureWireMock(name = "load-test-service", profile = PerformanceProfile.LOAD_TEST))
+    private static class LoadTestProfile {
+    }
+
+    @MicronautWireMockTest(@ConfigureWireMock(
+            name = "overridden-load-test-service",
+            profile = PerformanceProfile.LOAD_TEST,
+            containerThreads = 24,
+            asynchronousResponseThreads = 2,
+            maxRequestJournalEntries = 100
+    ))
+    private static class OverriddenLoadTestProfile {
+    }
+
+    @MicronautWireMockTest(@ConfigureWireMock(name = "reset-policy-service", recordFrom = "http://localhost:8080"))
+    private static class RecordedClasspathStubs {
+    }
+
+    @MicronautWireMockTest(@ConfigureWireMock(name = "first-recording-service", recordFrom = "http://localhost:8080"))
+    private static class FirstRecording {
+    }
+
+    @MicronautWireMockTest(@ConfigureWireMock(name = "default-service"))
+    private static class DefaultSettings {
+    }
+}